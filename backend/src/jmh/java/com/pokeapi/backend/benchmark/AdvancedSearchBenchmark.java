@@ -0,0 +1,89 @@
+package com.pokeapi.backend.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.pokeapi.backend.PokeApiApplication;
+import com.pokeapi.backend.service.PokemonFieldSet;
+import com.pokeapi.backend.service.PokemonService;
+
+/**
+ * 고급 검색 지연 시간 (PokemonService.advancedSearch → PokemonSearchMapper SQL)
+ *
+ * 같은 조건을 전체 DTO(능력치 펼치기 포함)와 요약 필드(fields=summary)로 조회해서 비교한다.
+ * type이 빈 문자열이면 타입 조건 없이 능력치 범위 조건만 건다.
+ * 지정한 DB에 이미 적재된 pokemon 행을 읽기만 한다.
+ *
+ * 실행: mvn -Pjmh process-test-classes (-Djmh.db.url=jdbc:postgresql://localhost:5432/pokeapi)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AdvancedSearchBenchmark {
+
+    @Param({"fire", ""})
+    public String type;
+
+    @Param({"80"})
+    public int minAttack;
+
+    private ConfigurableApplicationContext context;
+    private PokemonService pokemonService;
+    private PokemonFieldSet summaryFields;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 웹 서버, 진화 체인 사전 적재, 이름 사전 보충 없이 서비스 빈만 사용
+        context = new SpringApplicationBuilder(PokeApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "pokemon.evolution.prefetch-on-startup=false",
+                        "pokemon.name-warmup.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.pokeapi.backend=WARN",
+                        "logging.level.org.hibernate.SQL=WARN")
+                .run();
+        pokemonService = context.getBean(PokemonService.class);
+        summaryFields = PokemonFieldSet.parse("summary");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<?> fullFields() {
+        return search(null);
+    }
+
+    @Benchmark
+    public List<?> summaryFields() {
+        return search(summaryFields);
+    }
+
+    private List<?> search(PokemonFieldSet fields) {
+        return pokemonService.advancedSearch(type, null, null, null, null,
+                minAttack, null, null, null, null, null, null, null, null, fields);
+    }
+}
@@ -0,0 +1,74 @@
+package com.pokeapi.backend.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * PokeAPI 호출용 토큰 버킷 속도 제한기
+ *
+ * 초당 permitsPerSecond개씩 토큰이 차고 최대 burst개까지 쌓인다.
+ * 토큰이 모자라면 스레드를 막지 않고, 토큰이 찰 때까지의 지연(Mono.delay)을 돌려준다.
+ * 요청마다 미래의 토큰을 예약하는 방식이라 동시에 몰려도 도착 순서대로 간격이 벌어진다.
+ */
+public class TokenBucket {
+
+    private final double permitsPerSecond;
+    private final double burst;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    private long acquired;
+    private long delayed;
+    private long totalDelayMillis;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = Math.max(1, burst);
+        this.tokens = this.burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개 획득 (필요하면 지연 후 완료되는 Mono)
+     */
+    public Mono<Long> acquire() {
+        long waitMillis = reserve();
+        return waitMillis > 0 ? Mono.delay(Duration.ofMillis(waitMillis)) : Mono.just(0L);
+    }
+
+    /**
+     * 토큰 1개를 예약하고 기다려야 할 시간(ms)을 반환
+     */
+    synchronized long reserve() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * permitsPerSecond);
+        lastRefillNanos = now;
+
+        tokens -= 1;
+        acquired++;
+        if (tokens >= 0) {
+            return 0;
+        }
+        long waitMillis = (long) Math.ceil(-tokens / permitsPerSecond * 1000);
+        delayed++;
+        totalDelayMillis += waitMillis;
+        return waitMillis;
+    }
+
+    /**
+     * 획득/지연 통계
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("permitsPerSecond", permitsPerSecond);
+        stats.put("burst", (int) burst);
+        stats.put("acquired", acquired);
+        stats.put("delayed", delayed);
+        stats.put("totalDelayMillis", totalDelayMillis);
+        return stats;
+    }
+}
@@ -1,5 +1,6 @@
 package com.pokeapi.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -10,15 +11,31 @@ import reactor.core.publisher.Mono;
 @Configuration
 public class WebClientConfig {
     
+    /**
+     * PokeAPI 호출 속도 제한 (모든 WebClient 요청이 같은 예산을 공유)
+     */
     @Bean
-    public WebClient webClient() {
+    public TokenBucket pokeApiRateLimiter(
+            @Value("${pokeapi.rate-limit.requests-per-second:20}") double requestsPerSecond,
+            @Value("${pokeapi.rate-limit.burst:20}") int burst) {
+        return new TokenBucket(requestsPerSecond, burst);
+    }
+
+    @Bean
+    public WebClient webClient(TokenBucket pokeApiRateLimiter) {
         return WebClient.builder()
                 .baseUrl("https://pokeapi.co/api/v2")
+                .filter(rateLimiter(pokeApiRateLimiter))
                 .filter(errorHandler())
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(2 * 1024 * 1024))
                 .build();
     }
     
+    private ExchangeFilterFunction rateLimiter(TokenBucket tokenBucket) {
+        // 토큰을 얻을 때까지 지연시킨 뒤 요청 (재시도 요청도 토큰을 소모)
+        return (request, next) -> tokenBucket.acquire().then(Mono.defer(() -> next.exchange(request)));
+    }
+
     private ExchangeFilterFunction errorHandler() {
         return ExchangeFilterFunction.ofResponseProcessor(clientResponse -> {
             if (clientResponse.statusCode().is4xxClientError()) {
@@ -1,22 +1,40 @@
 package com.pokeapi.backend.controller;
 
+import com.pokeapi.backend.service.CatalogBundle;
+import com.pokeapi.backend.service.CatalogBundleStore;
+import com.pokeapi.backend.service.PokemonFieldSet;
+import com.pokeapi.backend.service.PokemonImportJobService;
 import com.pokeapi.backend.service.PokemonService;
+import com.pokeapi.backend.service.PokemonTypeIndex;
+import com.pokeapi.backend.service.SingleFlight;
+import com.pokeapi.backend.dto.EvolutionChainDetailDTO;
 import com.pokeapi.backend.dto.EvolutionDTO;
 
 import com.pokeapi.backend.dto.PokemonDTO;
+import com.pokeapi.backend.dto.PokemonSuggestionDTO;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
@@ -35,9 +53,21 @@ public class PokemonController {
     // 타입 유효성 검사를 위한 정규식 (영문자만 허용)
     private static final Pattern TYPE_PATTERN = Pattern.compile("^[가-힣a-zA-Z0-9-]+$");
 
+    // 목록 페이징 최대 페이지 크기
+    private static final int MAX_PAGE_SIZE = 200;
+
+    // 고급 검색 최대 결과 수
+    private static final int MAX_SEARCH_LIMIT = 2000;
+
     @Autowired
     private PokemonService pokemonService;
 
+    @Autowired
+    private PokemonImportJobService pokemonImportJobService;
+
+    @Autowired
+    private CatalogBundleStore catalogBundleStore;
+
 
 
     @GetMapping("/{name}")
@@ -70,41 +100,173 @@ public class PokemonController {
                 return ResponseEntity.notFound().build();
             }
             
+        } catch (SingleFlight.WaitTimeoutException e) {
+            // 같은 포켓몬을 조회 중인 다른 요청의 결과를 기다리다 시간 초과
+            logger.warn("포켓몬 조회 대기 시간 초과: {}, 오류: {}", name, e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         } catch (Exception e) {
             logger.error("포켓몬 검색 중 오류 발생: {}, 오류: {}", name, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    /**
+     * 전체 포켓몬 목록 조회 (fields로 응답 필드 선택, 예: fields=summary)
+     */
     @GetMapping("/all")
-    public ResponseEntity<List<PokemonDTO>> getAllPokemons() {
+    public ResponseEntity<List<?>> getAllPokemons(
+            @RequestParam(required = false) String fields, WebRequest webRequest) {
         try {
-            logger.info("전체 포켓몬 목록 조회 요청");
-            List<PokemonDTO> pokemons = pokemonService.getAllPokemons();
+            logger.info("전체 포켓몬 목록 조회 요청: fields={}", fields);
+            PokemonFieldSet fieldSet = PokemonFieldSet.parse(fields);
+            String etag = catalogETag(webRequest, "all");
+            if (webRequest.checkNotModified(etag)) {
+                return notModified(etag);
+            }
+            List<?> pokemons = pokemonService.getAllPokemons(fieldSet);
             logger.info("전체 포켓몬 목록 조회 성공: {}개", pokemons.size());
-            return ResponseEntity.ok(pokemons);
+            return okWithCatalogETag(webRequest, "all", pokemons);
             
+        } catch (IllegalArgumentException e) {
+            logger.warn("전체 포켓몬 목록 조회 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.error("전체 포켓몬 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    /**
+     * 전체 포켓몬 목록 스트리밍 조회
+     *
+     * format=ndjson(기본)이면 한 줄에 포켓몬 하나, format=array면 JSON 배열을 chunked로 내려준다.
+     */
+    @GetMapping("/all/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllPokemons(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        boolean ndjson = !"array".equalsIgnoreCase(format);
+        logger.info("전체 포켓몬 스트리밍 조회 요청: format={}", ndjson ? "ndjson" : "array");
+
+        StreamingResponseBody body = out -> {
+            try {
+                int count = pokemonService.streamAllPokemons(out, ndjson);
+                logger.info("전체 포켓몬 스트리밍 조회 완료: {}개", count);
+            } catch (Exception e) {
+                // 이미 일부를 보낸 뒤라 상태 코드는 바꿀 수 없음
+                logger.error("전체 포켓몬 스트리밍 중 오류 발생: {}", e.getMessage(), e);
+                throw e;
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * 카탈로그 번들 목록 (현재 버전의 번들 URL, 항상 재검증)
+     */
+    @GetMapping("/catalog")
+    public ResponseEntity<Map<String, Object>> getCatalogBundles() {
+        try {
+            long version = catalogBundleStore.currentVersion();
+            Map<String, String> bundles = new LinkedHashMap<>();
+            for (String name : catalogBundleStore.bundleNames()) {
+                bundles.put(name, "/api/pokemon/catalog/" + version + "/" + name + ".json");
+            }
+            Map<String, Object> manifest = new LinkedHashMap<>();
+            manifest.put("version", version);
+            manifest.put("bundles", bundles);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .body(manifest);
+        } catch (Exception e) {
+            logger.error("카탈로그 번들 목록 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 카탈로그 번들 조회 (예: /catalog/{version}/gen-1.json)
+     *
+     * 버전이 URL에 들어가므로 내용이 바뀌지 않는다. 1년 immutable로 캐시하게 하고,
+     * Accept-Encoding에 gzip이 있으면 미리 압축해 둔 바이트를 그대로 내려준다.
+     * 현재 버전이 아니면 404 (목록에서 새 URL을 받아야 함).
+     */
+    @GetMapping("/catalog/{version}/{bundle}.json")
+    public ResponseEntity<byte[]> getCatalogBundle(@PathVariable long version, @PathVariable String bundle,
+            WebRequest webRequest) {
+        try {
+            CatalogBundle catalogBundle = catalogBundleStore.find(version, bundle);
+            if (catalogBundle == null) {
+                logger.info("카탈로그 번들 없음: 버전={}, 번들={}", version, bundle);
+                return ResponseEntity.notFound().build();
+            }
+
+            boolean gzip = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            String etag = gzip ? catalogBundle.getGzipEtag() : catalogBundle.getEtag();
+            CacheControl cacheControl = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(cacheControl)
+                        .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                        .build();
+            }
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            return response.body(gzip ? catalogBundle.getGzip() : catalogBundle.getJson());
+
+        } catch (Exception e) {
+            logger.error("카탈로그 번들 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * 전체 포켓몬 목록 조회 (페이징 처리)
+     *
+     * cursor가 있으면 이전 응답의 next 커서 다음부터 키셋 페이징하고, 없으면 page 번호로 조회한다.
+     * includeTotal=false면 전체 개수(totalElements/totalPages)를 생략한다.
+     * fields를 주면 선택한 필드만 내려주고, 요약 필드만이면 DB에서도 해당 컬럼만 읽는다.
      */
     @GetMapping("/list")
     public ResponseEntity<Map<String, Object>> getAllPokemonsWithPaging(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "0") int generation) {
+            @RequestParam(defaultValue = "0") int generation,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
         
         try {
-            logger.info("페이징 포켓몬 목록 조회 요청: page={}, size={}, generation={}", page, size, generation);
-            Map<String, Object> response = pokemonService.getPokemonsWithPaging(page, size, generation);
+            if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE
+                    || generation < 0 || generation > PokemonTypeIndex.MAX_GENERATION) {
+                logger.warn("잘못된 페이징 요청: page={}, size={}, generation={}", page, size, generation);
+                return ResponseEntity.badRequest().build();
+            }
+
+            logger.info("페이징 포켓몬 목록 조회 요청: page={}, size={}, generation={}, cursor={}", page, size, generation, cursor);
+            PokemonFieldSet fieldSet = PokemonFieldSet.parse(fields);
+            String etag = catalogETag(webRequest, "list");
+            if (webRequest.checkNotModified(etag)) {
+                return notModified(etag);
+            }
+            Map<String, Object> response = pokemonService.getPokemonsWithPaging(
+                    page, size, generation, cursor, includeTotal, fieldSet);
             logger.info("페이징 포켓몬 목록 조회 성공");
-            return ResponseEntity.ok(response);
+            return okWithCatalogETag(webRequest, "list", response);
             
+        } catch (IllegalArgumentException e) {
+            logger.warn("페이징 포켓몬 목록 조회 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.error("페이징 포켓몬 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -128,6 +290,19 @@ public class PokemonController {
         }
     }
 
+    /**
+     * 이름 조회 캐시 통계 (부정 캐시 히트, Bloom 필터 거절 수 등)
+     */
+    @GetMapping("/lookup-stats")
+    public ResponseEntity<Map<String, Object>> getLookupStats() {
+        try {
+            return ResponseEntity.ok(pokemonService.getLookupStats());
+        } catch (Exception e) {
+            logger.error("조회 통계 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * 전체 포켓몬 데이터 초기화 (PokeAPI에서 가져와서 DB에 저장)
      */
@@ -137,13 +312,46 @@ public class PokemonController {
             @RequestParam(defaultValue = "0") int offset) {
         
         try {
-            logger.info("전체 포켓몬 데이터 초기화 시작: limit={}, offset={}", limit, offset);
-            Map<String, Object> result = pokemonService.initializeAllPokemonsFromApi(limit, offset);
-            logger.info("전체 포켓몬 데이터 초기화 완료");
-            return ResponseEntity.ok(result);
+            if (limit <= 0 || offset < 0) {
+                return ResponseEntity.badRequest().build();
+            }
+            // 백그라운드 작업으로 실행하고 작업 ID 바로 반환 (진행 상황은 GET /initialize/{jobId})
+            logger.info("전체 포켓몬 데이터 초기화 작업 요청: limit={}, offset={}", limit, offset);
+            Map<String, Object> job = pokemonImportJobService.startJob(limit, offset);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
             
         } catch (Exception e) {
-            logger.error("전체 포켓몬 데이터 초기화 중 오류 발생: {}", e.getMessage(), e);
+            logger.error("전체 포켓몬 데이터 초기화 작업 생성 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 초기화 작업 진행 상황 조회 (진행률, 처리 속도, 오류, 배치별 통계)
+     */
+    @GetMapping("/initialize/{jobId}")
+    public ResponseEntity<Map<String, Object>> getInitializeJob(@PathVariable Long jobId) {
+        try {
+            return pokemonImportJobService.getProgress(jobId)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            logger.error("초기화 작업 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 초기화 작업 취소 (진행 중인 배치가 끝난 뒤 멈춤)
+     */
+    @DeleteMapping("/initialize/{jobId}")
+    public ResponseEntity<Map<String, Object>> cancelInitializeJob(@PathVariable Long jobId) {
+        try {
+            return pokemonImportJobService.cancelJob(jobId)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            logger.error("초기화 작업 취소 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -175,6 +383,9 @@ public class PokemonController {
                 return ResponseEntity.notFound().build();
             }
             
+        } catch (SingleFlight.WaitTimeoutException e) {
+            logger.warn("포켓몬 조회 대기 시간 초과: {}, 오류: {}", name, e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         } catch (Exception e) {
             logger.error("포켓몬 검색 중 오류 발생: {}, 오류: {}", name, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -184,27 +395,68 @@ public class PokemonController {
 /**
  *한글 이름으로 부분일치 검색
  *@param keyword 검색어
+ *@param limit 최대 결과 수 (정확 > 접두 > 중간 일치 순, 없으면 전체)
+ *@param includeEnglish 영문 이름 부분일치도 포함할지 여부 (기본 false)
  *@return 검색걸과 리스트
  * 
  */
 @GetMapping("/search/korean")
-public ResponseEntity<List<PokemonDTO>> searchByKoreanName(@RequestParam String keyword) {
+public ResponseEntity<List<?>> searchByKoreanName(
+        @RequestParam String keyword,
+        @RequestParam(required = false) Integer limit,
+        @RequestParam(defaultValue = "false") boolean includeEnglish,
+        @RequestParam(required = false) String fields,
+        WebRequest webRequest) {
     try {
-        if (keyword == null || keyword.trim().isEmpty()) {
+        if (keyword == null || keyword.trim().isEmpty() || (limit != null && limit <= 0)) {
             return ResponseEntity.badRequest().build();
         }
 
-        List<PokemonDTO> results = pokemonService.searchByKoreanName(keyword.trim());
-        return ResponseEntity.ok(results);
+        PokemonFieldSet fieldSet = PokemonFieldSet.parse(fields);
+        String etag = catalogETag(webRequest, "search/korean");
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        List<?> results = pokemonService.searchByKoreanName(keyword.trim(), limit, includeEnglish, fieldSet);
+        return okWithCatalogETag(webRequest, "search/korean", results);
 
+    } catch (IllegalArgumentException e) {
+       logger.warn("한글 이름 부분일치 검색 요청 오류: {}", e.getMessage());
+       return ResponseEntity.badRequest().build();
     } catch (Exception e) {
        logger.error("한글 이름 부분일치 검색 중 오류 발생: {}", e.getMessage(), e);
        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
     }
 }
 
+    /**
+     * 검색창 자동완성 (영문/한글/초성 접두어, 메모리 색인만 사용)
+     * @param q 입력 중인 검색어 (예: "pik", "피카", "ㅍㅋㅊ")
+     * @param limit 최대 후보 수
+     * @return 자동완성 후보 리스트
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<PokemonSuggestionDTO>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "" + PokemonService.DEFAULT_AUTOCOMPLETE_LIMIT) int limit,
+            WebRequest webRequest) {
+        try {
+            if (q == null || q.trim().isEmpty() || limit <= 0) {
+                return ResponseEntity.badRequest().build();
+            }
+            String etag = catalogETag(webRequest, "autocomplete");
+            if (webRequest.checkNotModified(etag)) {
+                return notModified(etag);
+            }
+            return okWithCatalogETag(webRequest, "autocomplete", pokemonService.autocomplete(q, limit));
+        } catch (Exception e) {
+            logger.error("자동완성 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @GetMapping("/advanced-search")
-    public ResponseEntity<List<PokemonDTO>> advancedSearch(
+    public ResponseEntity<List<?>> advancedSearch(
             @RequestParam(required = false) String type,
             @RequestParam(required = false) Integer minHeight,
             @RequestParam(required = false) Integer maxHeight,
@@ -217,7 +469,10 @@ public ResponseEntity<List<PokemonDTO>> searchByKoreanName(@RequestParam String
             @RequestParam(required = false) Integer minHp,
             @RequestParam(required = false) Integer maxHp,
             @RequestParam(required = false) Integer minSpeed,
-            @RequestParam(required = false) Integer maxSpeed) {
+            @RequestParam(required = false) Integer maxSpeed,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
         
         try {
             // 1단계: 입력값 유효성 검사
@@ -269,23 +524,38 @@ public ResponseEntity<List<PokemonDTO>> searchByKoreanName(@RequestParam String
                 logger.warn("음수 값이 포함된 검색 조건");
                 return ResponseEntity.badRequest().build();
             }
+
+            if (limit != null && (limit < 1 || limit > MAX_SEARCH_LIMIT)) {
+                logger.warn("잘못된 결과 수 제한: {}", limit);
+                return ResponseEntity.badRequest().build();
+            }
             
+            PokemonFieldSet fieldSet = PokemonFieldSet.parse(fields);
+            String etag = catalogETag(webRequest, "advanced-search");
+            if (webRequest.checkNotModified(etag)) {
+                return notModified(etag);
+            }
+
             // 2단계: 서비스 호출
             logger.info("고급 검색 요청 - 타입: {}, 키: {}~{}, 몸무게: {}~{}, 공격력: {}~{}, 방어력: {}~{}, HP: {}~{}, 속도: {}~{}", 
                 type, minHeight, maxHeight, minWeight, maxWeight, 
                 minAttack, maxAttack, minDefense, maxDefense, 
                 minHp, maxHp, minSpeed, maxSpeed);
             
-            List<PokemonDTO> results = pokemonService.advancedSearch(
+            List<?> results = pokemonService.advancedSearch(
                 type != null ? type.trim() : null, 
                 minHeight, maxHeight, minWeight, maxWeight,
                 minAttack, maxAttack, minDefense, maxDefense,
-                minHp, maxHp, minSpeed, maxSpeed);
+                minHp, maxHp, minSpeed, maxSpeed,
+                limit, fieldSet);
             
             // 3단계: 결과 처리
             logger.info("고급 검색 성공: {}개 결과", results.size());
-            return ResponseEntity.ok(results);
+            return okWithCatalogETag(webRequest, "advanced-search", results);
             
+        } catch (IllegalArgumentException e) {
+            logger.warn("고급 검색 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.error("고급 검색 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -334,6 +604,47 @@ public ResponseEntity<List<PokemonDTO>> searchByKoreanName(@RequestParam String
     }
  }
 
+ /**
+  * 포켓몬 진화 체인 상세 (단계별 한글 이름/이미지/타입 포함, 요청 1회로 화면 구성)
+  *
+  * @param name Pokemon Name
+  * @return EvolutionChainDetail
+  */
+ @GetMapping("/{name}/evolution-chain/detail")
+ public ResponseEntity<EvolutionChainDetailDTO> getEvolutionChainDetail(@PathVariable String name) {
+
+    try {
+        // URL 디코딩 처리
+        String decodedName = java.net.URLDecoder.decode(name, "UTF-8");
+
+        // 유효성 검사
+        if (decodedName == null || decodedName.trim().isEmpty()) {
+            logger.warn("포켓몬 이름이 비어있습니다");
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (!POKEMON_NAME_PATTERN.matcher(decodedName.trim()).matches()){
+            logger.warn("잘못된 포켓몬의 이름 입니다: {}", decodedName);
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 서비스호출
+        EvolutionChainDetailDTO detail = pokemonService.getEvolutionChainDetail(decodedName.trim());
+
+        // 결과 처리
+        if (detail != null) {
+            logger.info("포켓몬 진화 체인 상세 조회 성공: {} ({}단계)", decodedName, detail.getStageCount());
+            return ResponseEntity.ok(detail);
+        } else {
+            logger.warn("포켓몬 진화체인을 찾을 수 없음: {}", decodedName);
+            return ResponseEntity.notFound().build();
+        }
+    } catch (Exception e) {
+        logger.error("포켓몬 진화 체인 상세 조회중 오류발생: {}", e.getMessage(), e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+ }
+
  @GetMapping("/evolution-chain/search")
  public ResponseEntity<List<PokemonDTO>> searchEvolutionChain(@RequestParam String keyword) {
 
@@ -357,4 +668,64 @@ public ResponseEntity<List<PokemonDTO>> searchByKoreanName(@RequestParam String
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
     }
  }
+
+ /**
+  * 카탈로그 조회용 강한 ETag (카탈로그 버전 + 엔드포인트 + 응답 형식 + 정렬된 요청 파라미터)
+  */
+ private String catalogETag(WebRequest webRequest, String endpoint) {
+    StringBuilder key = new StringBuilder().append(pokemonService.getCatalogVersion())
+            .append('|').append(endpoint).append('|').append(webRequest.getHeader(HttpHeaders.ACCEPT));
+    new TreeMap<>(webRequest.getParameterMap()).forEach((name, values) ->
+            key.append('&').append(name).append('=').append(String.join(",", values)));
+    return CatalogBundleStore.etagOf(key.toString().getBytes(StandardCharsets.UTF_8));
+ }
+
+ /**
+  * 304 응답 (DB 조회와 직렬화 없이 바로 반환)
+  */
+ private <T> ResponseEntity<T> notModified(String etag) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+            .eTag(etag)
+            .cacheControl(CacheControl.noCache())
+            .varyBy(HttpHeaders.ACCEPT)
+            .build();
+ }
+
+ /**
+  * Accept-Encoding에 gzip(또는 *)이 q=0이 아닌 값으로 있는지 확인
+  */
+ private boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+        return false;
+    }
+    for (String token : acceptEncoding.split(",")) {
+        String[] parts = token.trim().split(";");
+        String coding = parts[0].trim();
+        if (!"gzip".equalsIgnoreCase(coding) && !"*".equals(coding)) {
+            continue;
+        }
+        boolean rejected = false;
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim().replace(" ", "");
+            if (param.matches("q=0(\\.0*)?")) {
+                rejected = true;
+            }
+        }
+        if (!rejected) {
+            return true;
+        }
+    }
+    return false;
+ }
+
+ /**
+  * 200 응답에 조회 후 카탈로그 버전 기준 ETag 부여 (항상 재검증하도록 no-cache)
+  */
+ private <T> ResponseEntity<T> okWithCatalogETag(WebRequest webRequest, String endpoint, T body) {
+    return ResponseEntity.ok()
+            .eTag(catalogETag(webRequest, endpoint))
+            .cacheControl(CacheControl.noCache())
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(body);
+ }
 }
\ No newline at end of file
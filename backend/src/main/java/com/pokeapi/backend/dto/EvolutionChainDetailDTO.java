@@ -0,0 +1,22 @@
+package com.pokeapi.backend.dto;
+
+import java.util.List;
+
+/**
+ * 진화 체인 상세 DTO
+ * 체인 트리를 단계 순서로 펼치고 각 단계를 카탈로그 정보로 채운 응답 (요청 1회로 화면 구성)
+ */
+public class EvolutionChainDetailDTO {
+
+    private Integer chainId;               // 진화 체인 ID
+    private Integer stageCount;            // 단계 수 (기본형 포함)
+    private List<EvolutionStageDTO> stages; // 단계 순서 (같은 단계는 분기)
+
+    // Getters and Setters
+    public Integer getChainId() { return chainId; }
+    public void setChainId(Integer chainId) { this.chainId = chainId; }
+    public Integer getStageCount() { return stageCount; }
+    public void setStageCount(Integer stageCount) { this.stageCount = stageCount; }
+    public List<EvolutionStageDTO> getStages() { return stages; }
+    public void setStages(List<EvolutionStageDTO> stages) { this.stages = stages; }
+}
@@ -0,0 +1,52 @@
+package com.pokeapi.backend.dto;
+
+import java.util.List;
+
+/**
+ * 진화 단계 DTO
+ * 진화 체인을 펼친 한 단계 (카탈로그 정보로 채움)
+ */
+public class EvolutionStageDTO {
+
+    private Integer stage;                 // 진화 단계 (0부터, 기본형 = 0)
+    private Integer pokemonId;             // 포켓몬 ID (species 기준)
+    private String name;                   // 영어 이름
+    private String koreanName;             // 한글 이름
+    private String spriteUrl;              // 스프라이트 URL
+    private String officialArtworkUrl;     // 공식 일러스트 URL
+    private List<String> types;            // 타입
+    private List<String> koreanTypes;      // 한글 타입
+    private Integer evolvesFromId;         // 이전 단계 포켓몬 ID (기본형은 null)
+    private String trigger;                // 진화 방법 (level-up, use-item, trade 등)
+    private Integer minLevel;              // 최소 레벨
+    private String item;                   // 진화 도구
+    private Boolean inCatalog;             // 카탈로그에 저장된 포켓몬인지 여부
+
+    // Getters and Setters
+    public Integer getStage() { return stage; }
+    public void setStage(Integer stage) { this.stage = stage; }
+    public Integer getPokemonId() { return pokemonId; }
+    public void setPokemonId(Integer pokemonId) { this.pokemonId = pokemonId; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getKoreanName() { return koreanName; }
+    public void setKoreanName(String koreanName) { this.koreanName = koreanName; }
+    public String getSpriteUrl() { return spriteUrl; }
+    public void setSpriteUrl(String spriteUrl) { this.spriteUrl = spriteUrl; }
+    public String getOfficialArtworkUrl() { return officialArtworkUrl; }
+    public void setOfficialArtworkUrl(String officialArtworkUrl) { this.officialArtworkUrl = officialArtworkUrl; }
+    public List<String> getTypes() { return types; }
+    public void setTypes(List<String> types) { this.types = types; }
+    public List<String> getKoreanTypes() { return koreanTypes; }
+    public void setKoreanTypes(List<String> koreanTypes) { this.koreanTypes = koreanTypes; }
+    public Integer getEvolvesFromId() { return evolvesFromId; }
+    public void setEvolvesFromId(Integer evolvesFromId) { this.evolvesFromId = evolvesFromId; }
+    public String getTrigger() { return trigger; }
+    public void setTrigger(String trigger) { this.trigger = trigger; }
+    public Integer getMinLevel() { return minLevel; }
+    public void setMinLevel(Integer minLevel) { this.minLevel = minLevel; }
+    public String getItem() { return item; }
+    public void setItem(String item) { this.item = item; }
+    public Boolean getInCatalog() { return inCatalog; }
+    public void setInCatalog(Boolean inCatalog) { this.inCatalog = inCatalog; }
+}
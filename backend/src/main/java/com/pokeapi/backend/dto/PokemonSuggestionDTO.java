@@ -0,0 +1,46 @@
+package com.pokeapi.backend.dto;
+
+/**
+ * 자동완성 후보 전송용 DTO
+ * 검색창 자동완성에 필요한 최소 정보만 담는다.
+ */
+public class PokemonSuggestionDTO {
+
+    private Integer id;                    // 포켓몬 ID
+    private String name;                   // 영어 이름
+    private String koreanName;             // 한글 이름
+    private String spriteUrl;              // 스프라이트 URL
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getKoreanName() {
+        return koreanName;
+    }
+
+    public void setKoreanName(String koreanName) {
+        this.koreanName = koreanName;
+    }
+
+    public String getSpriteUrl() {
+        return spriteUrl;
+    }
+
+    public void setSpriteUrl(String spriteUrl) {
+        this.spriteUrl = spriteUrl;
+    }
+}
@@ -0,0 +1,48 @@
+package com.pokeapi.backend.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.*;
+
+/**
+ * PokeAPI 진화 체인 원본 (/evolution-chain/{id} 응답을 그대로 저장)
+ */
+@Entity
+@Table(name = "evolution_chain")
+public class EvolutionChain {
+
+    // PokeAPI 진화 체인 ID
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "chain_data", nullable = false, columnDefinition = "TEXT")
+    private String chainData; // JSON 형태로 저장
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public EvolutionChain() {}
+
+    public EvolutionChain(Integer id, String chainData) {
+        this.id = id;
+        this.chainData = chainData;
+    }
+
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+    public String getChainData() { return chainData; }
+    public void setChainData(String chainData) { this.chainData = chainData; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,198 @@
+package com.pokeapi.backend.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+/**
+ * 포켓몬 대량 적재 작업 (백그라운드 실행, 배치마다 진행 위치를 저장해서 재시작 시 이어서 진행)
+ */
+@Entity
+@Table(name = "import_job")
+public class ImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // PENDING, RUNNING, COMPLETED, FAILED, CANCELLED
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "request_limit", nullable = false)
+    private Integer requestLimit;
+
+    @Column(name = "start_offset", nullable = false)
+    private Integer startOffset;
+
+    // 다음에 처리할 목록 위치 (체크포인트)
+    @Column(name = "current_offset", nullable = false)
+    private Integer currentOffset;
+
+    // 목록 끝 위치 (목록 조회 후 확정)
+    @Column(name = "end_offset")
+    private Integer endOffset;
+
+    // 마지막으로 저장된 PokeAPI ID
+    @Column(name = "last_pokemon_id")
+    private Integer lastPokemonId;
+
+    @Column(name = "inserted_count", nullable = false)
+    private Integer insertedCount = 0;
+
+    @Column(name = "skipped_count", nullable = false)
+    private Integer skippedCount = 0;
+
+    @Column(name = "error_count", nullable = false)
+    private Integer errorCount = 0;
+
+    // 최근 오류 메시지 (JSON 배열)
+    @Column(name = "errors", columnDefinition = "TEXT")
+    private String errors;
+
+    // 배치별 처리량 (JSON 배열)
+    @Column(name = "batch_stats", columnDefinition = "TEXT")
+    private String batchStats;
+
+    // 취소 요청은 ImportJobRepository.requestCancel로만 기록 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "cancel_requested", nullable = false, updatable = false)
+    private Boolean cancelRequested = false;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getRequestLimit() {
+        return requestLimit;
+    }
+
+    public void setRequestLimit(Integer requestLimit) {
+        this.requestLimit = requestLimit;
+    }
+
+    public Integer getStartOffset() {
+        return startOffset;
+    }
+
+    public void setStartOffset(Integer startOffset) {
+        this.startOffset = startOffset;
+    }
+
+    public Integer getCurrentOffset() {
+        return currentOffset;
+    }
+
+    public void setCurrentOffset(Integer currentOffset) {
+        this.currentOffset = currentOffset;
+    }
+
+    public Integer getEndOffset() {
+        return endOffset;
+    }
+
+    public void setEndOffset(Integer endOffset) {
+        this.endOffset = endOffset;
+    }
+
+    public Integer getLastPokemonId() {
+        return lastPokemonId;
+    }
+
+    public void setLastPokemonId(Integer lastPokemonId) {
+        this.lastPokemonId = lastPokemonId;
+    }
+
+    public Integer getInsertedCount() {
+        return insertedCount;
+    }
+
+    public void setInsertedCount(Integer insertedCount) {
+        this.insertedCount = insertedCount;
+    }
+
+    public Integer getSkippedCount() {
+        return skippedCount;
+    }
+
+    public void setSkippedCount(Integer skippedCount) {
+        this.skippedCount = skippedCount;
+    }
+
+    public Integer getErrorCount() {
+        return errorCount;
+    }
+
+    public void setErrorCount(Integer errorCount) {
+        this.errorCount = errorCount;
+    }
+
+    public String getErrors() {
+        return errors;
+    }
+
+    public void setErrors(String errors) {
+        this.errors = errors;
+    }
+
+    public String getBatchStats() {
+        return batchStats;
+    }
+
+    public void setBatchStats(String batchStats) {
+        this.batchStats = batchStats;
+    }
+
+    public Boolean getCancelRequested() {
+        return cancelRequested;
+    }
+
+    public void setCancelRequested(Boolean cancelRequested) {
+        this.cancelRequested = cancelRequested;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
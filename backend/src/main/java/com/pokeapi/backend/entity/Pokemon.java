@@ -3,6 +3,9 @@ package com.pokeapi.backend.entity;
 import jakarta.persistence.*;
 import java.util.Date;
 
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 // ===== JPA 자동 제공 기능들 =====
 // @Entity: JPA 엔티티로 등록
 // @Table: 데이터베이스 테이블 매핑
@@ -58,24 +61,70 @@ public class Pokemon {
     @Column(name = "official_artwork_url")
     private String officialArtworkUrl;
 
-    @Column(name = "types", columnDefinition = "TEXT")
+    // 타입 JSON 배열 (jsonb, GIN 인덱스로 @> 포함 검색)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "types", columnDefinition = "jsonb")
     private String types;
 
-    @Column(name = "korean_types", columnDefinition = "TEXT")
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "korean_types", columnDefinition = "jsonb")
     private String koreanTypes;
 
-    @Column(name = "stats", columnDefinition = "TEXT")
-    private String stats;
+    // 능력치 (종족값, 기존 stats JSON TEXT 컬럼 대체)
+    @Column(name = "hp")
+    private Short hp;
+
+    @Column(name = "attack")
+    private Short attack;
+
+    @Column(name = "defense")
+    private Short defense;
+
+    @Column(name = "special_attack")
+    private Short specialAttack;
+
+    @Column(name = "special_defense")
+    private Short specialDefense;
+
+    @Column(name = "speed")
+    private Short speed;
+
+    @Column(name = "base_stat_total")
+    private Short baseStatTotal;
+
+    // 능력치별 노력치
+    @Column(name = "hp_effort")
+    private Short hpEffort;
+
+    @Column(name = "attack_effort")
+    private Short attackEffort;
+
+    @Column(name = "defense_effort")
+    private Short defenseEffort;
+
+    @Column(name = "special_attack_effort")
+    private Short specialAttackEffort;
+
+    @Column(name = "special_defense_effort")
+    private Short specialDefenseEffort;
+
+    @Column(name = "speed_effort")
+    private Short speedEffort;
 
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
-    @Column(name = "abilities", columnDefinition = "TEXT")
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "abilities", columnDefinition = "jsonb")
     private String abilities;
 
     @Column(name = "generation")
     private Integer generation;
 
+    // PokeAPI 진화 체인 ID (species 기준)
+    @Column(name = "evolution_chain_id")
+    private Integer evolutionChainId;
+
     @Column(name = "created_at")
     @Temporal(TemporalType.TIMESTAMP)
     private Date createdAt;
@@ -108,10 +157,23 @@ public class Pokemon {
     public String getOfficialArtworkUrl() { return officialArtworkUrl; }
     public String getTypes() { return types; }
     public String getKoreanTypes() { return koreanTypes; }
-    public String getStats() { return stats; }
+    public Short getHp() { return hp; }
+    public Short getAttack() { return attack; }
+    public Short getDefense() { return defense; }
+    public Short getSpecialAttack() { return specialAttack; }
+    public Short getSpecialDefense() { return specialDefense; }
+    public Short getSpeed() { return speed; }
+    public Short getBaseStatTotal() { return baseStatTotal; }
+    public Short getHpEffort() { return hpEffort; }
+    public Short getAttackEffort() { return attackEffort; }
+    public Short getDefenseEffort() { return defenseEffort; }
+    public Short getSpecialAttackEffort() { return specialAttackEffort; }
+    public Short getSpecialDefenseEffort() { return specialDefenseEffort; }
+    public Short getSpeedEffort() { return speedEffort; }
     public String getDescription() { return description; }
     public String getAbilities() { return abilities; }
     public Integer getGeneration() { return generation; }
+    public Integer getEvolutionChainId() { return evolutionChainId; }
     public Date getCreatedAt() { return createdAt; }
     public Date getUpdatedAt() { return updatedAt; }
     
@@ -128,10 +190,23 @@ public class Pokemon {
     public void setOfficialArtworkUrl(String officialArtworkUrl) { this.officialArtworkUrl = officialArtworkUrl; }
     public void setTypes(String types) { this.types = types; }
     public void setKoreanTypes(String koreanTypes) { this.koreanTypes = koreanTypes; }
-    public void setStats(String stats) { this.stats = stats; }
+    public void setHp(Short hp) { this.hp = hp; }
+    public void setAttack(Short attack) { this.attack = attack; }
+    public void setDefense(Short defense) { this.defense = defense; }
+    public void setSpecialAttack(Short specialAttack) { this.specialAttack = specialAttack; }
+    public void setSpecialDefense(Short specialDefense) { this.specialDefense = specialDefense; }
+    public void setSpeed(Short speed) { this.speed = speed; }
+    public void setBaseStatTotal(Short baseStatTotal) { this.baseStatTotal = baseStatTotal; }
+    public void setHpEffort(Short hpEffort) { this.hpEffort = hpEffort; }
+    public void setAttackEffort(Short attackEffort) { this.attackEffort = attackEffort; }
+    public void setDefenseEffort(Short defenseEffort) { this.defenseEffort = defenseEffort; }
+    public void setSpecialAttackEffort(Short specialAttackEffort) { this.specialAttackEffort = specialAttackEffort; }
+    public void setSpecialDefenseEffort(Short specialDefenseEffort) { this.specialDefenseEffort = specialDefenseEffort; }
+    public void setSpeedEffort(Short speedEffort) { this.speedEffort = speedEffort; }
     public void setDescription(String description) { this.description = description; }
     public void setAbilities(String abilities) { this.abilities = abilities; }
     public void setGeneration(Integer generation) { this.generation = generation; }
+    public void setEvolutionChainId(Integer evolutionChainId) { this.evolutionChainId = evolutionChainId; }
     public void setCreatedAt(Date createdAt) { this.createdAt = createdAt; }
     public void setUpdatedAt(Date updatedAt) { this.updatedAt = updatedAt; }
     
@@ -24,6 +24,9 @@ public class PokemonNameMapping {
     @Column(name = "pokemon_id", nullable = false)
     private Integer pokemonId;
     
+    @Column(name = "generation")
+    private Integer generation;
+    
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -75,6 +78,14 @@ public class PokemonNameMapping {
         this.pokemonId = pokemonId;
     }
     
+    public Integer getGeneration() {
+        return generation;
+    }
+    
+    public void setGeneration(Integer generation) {
+        this.generation = generation;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
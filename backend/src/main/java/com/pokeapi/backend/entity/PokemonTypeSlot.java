@@ -0,0 +1,49 @@
+package com.pokeapi.backend.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * 포켓몬별 타입 (정규화 테이블 pokemon_type, 슬롯 1~2)
+ *
+ * pokemon.types JSON과 같은 내용을 행으로 저장해서 타입 조건을 인덱스 동등 조인으로 찾는다.
+ * 행은 적재 시 PokemonBatchRepository.syncTypes로 채운다.
+ */
+@Entity
+@Table(name = "pokemon_type",
+       uniqueConstraints = @UniqueConstraint(name = "uk_pokemon_type_slot", columnNames = {"pokemon_id", "slot"}),
+       indexes = {
+           @Index(name = "idx_pokemon_type_name_pokemon", columnList = "type_name, pokemon_id"),
+           @Index(name = "idx_pokemon_type_korean_name_pokemon", columnList = "korean_type_name, pokemon_id")
+       })
+public class PokemonTypeSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // pokemon.id (PokeAPI ID 아님)
+    @Column(name = "pokemon_id", nullable = false)
+    private Long pokemonId;
+
+    @Column(name = "type_name", nullable = false, length = 20)
+    private String typeName;
+
+    @Column(name = "korean_type_name", length = 20)
+    private String koreanTypeName;
+
+    @Column(name = "slot", nullable = false)
+    private Integer slot;
+
+    // Getter/Setter
+    public Long getId() { return id; }
+    public Long getPokemonId() { return pokemonId; }
+    public String getTypeName() { return typeName; }
+    public String getKoreanTypeName() { return koreanTypeName; }
+    public Integer getSlot() { return slot; }
+
+    public void setId(Long id) { this.id = id; }
+    public void setPokemonId(Long pokemonId) { this.pokemonId = pokemonId; }
+    public void setTypeName(String typeName) { this.typeName = typeName; }
+    public void setKoreanTypeName(String koreanTypeName) { this.koreanTypeName = koreanTypeName; }
+    public void setSlot(Integer slot) { this.slot = slot; }
+}
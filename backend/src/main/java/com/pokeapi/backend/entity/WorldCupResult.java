@@ -2,6 +2,9 @@ package com.pokeapi.backend.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import jakarta.persistence.*;
 
 @Entity
@@ -21,7 +24,9 @@ public class WorldCupResult {
     @Column(name = "tournament_type", nullable = false)
     private String tournamentType = "vote";
 
-    @Column(name = "conditions", nullable = false, columnDefinition = "TEXT")
+    // 월드컵 조건 {participantCount, generation, type} (jsonb, GIN 인덱스로 @> 포함 검색)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "conditions", nullable = false, columnDefinition = "jsonb")
     private String conditions;
 
     @Column(name = "participants", nullable = false, columnDefinition = "TEXT")
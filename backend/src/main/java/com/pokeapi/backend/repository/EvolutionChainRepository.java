@@ -0,0 +1,9 @@
+package com.pokeapi.backend.repository;
+
+import com.pokeapi.backend.entity.EvolutionChain;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EvolutionChainRepository extends JpaRepository<EvolutionChain, Integer> {
+}
@@ -0,0 +1,33 @@
+package com.pokeapi.backend.repository;
+
+import com.pokeapi.backend.entity.ImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    // 상태별 작업 조회 (재시작 시 미완료 작업 이어서 실행)
+    List<ImportJob> findByStatusInOrderByIdAsc(List<String> statuses);
+
+    // 취소 플래그만 기록 (실행 스레드가 저장하는 진행 위치/집계 컬럼은 건드리지 않음)
+    @Modifying
+    @Transactional
+    @Query("UPDATE ImportJob j SET j.cancelRequested = true, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status IN ('PENDING', 'RUNNING')")
+    int requestCancel(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 아직 시작하지 않은 작업은 바로 취소 상태로
+    @Modifying
+    @Transactional
+    @Query("UPDATE ImportJob j SET j.status = 'CANCELLED', j.finishedAt = :now, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = 'PENDING'")
+    int cancelIfPending(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,61 @@
+package com.pokeapi.backend.repository;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JSON 배열 jsonb 컬럼(types, korean_types, abilities) ↔ List&lt;String&gt; MyBatis 타입 핸들러
+ * 파싱에 실패하면 빈 리스트 (convertJsonToList와 같은 동작)
+ */
+public class JsonStringListTypeHandler extends BaseTypeHandler<List<String>> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, List<String> parameter, JdbcType jdbcType)
+            throws SQLException {
+        try {
+            ps.setObject(i, OBJECT_MAPPER.writeValueAsString(parameter), Types.OTHER); // jsonb 파라미터
+        } catch (Exception e) {
+            throw new SQLException("JSON 변환 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<String> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return parse(rs.getString(columnName));
+    }
+
+    @Override
+    public List<String> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return parse(rs.getString(columnIndex));
+    }
+
+    @Override
+    public List<String> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return parse(cs.getString(columnIndex));
+    }
+
+    private List<String> parse(String json) {
+        if (json == null || json.isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, STRING_LIST);
+        } catch (Exception e) {
+            return Collections.emptyList();
+        }
+    }
+}
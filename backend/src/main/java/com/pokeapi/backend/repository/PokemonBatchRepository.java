@@ -0,0 +1,264 @@
+package com.pokeapi.backend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.pokeapi.backend.entity.Pokemon;
+
+/**
+ * 포켓몬 대량 적재용 JDBC 저장소
+ *
+ * Pokemon.id가 IDENTITY 전략이라 JPA save로는 INSERT 배치가 되지 않으므로,
+ * 대량 적재는 JPA를 거치지 않고 여러 행을 한 문장으로 넣는다.
+ * (INSERT ... VALUES (...), (...) ON CONFLICT (pokemon_id) DO NOTHING)
+ */
+@Repository
+public class PokemonBatchRepository {
+
+    // 행당 INSERT 컬럼 수
+    private static final int INSERT_COLUMNS = 30;
+
+    // PostgreSQL 바인드 파라미터 상한(32767) 안에서 한 문장에 넣을 최대 행 수
+    private static final int MAX_ROWS_PER_STATEMENT = 32767 / INSERT_COLUMNS;
+
+    private static final String STAT_COLUMNS =
+            "hp, attack, defense, special_attack, special_defense, speed, base_stat_total, "
+            + "hp_effort, attack_effort, defense_effort, special_attack_effort, special_defense_effort, speed_effort";
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO pokemon (pokemon_id, name, korean_name, base_experience, height, weight, "
+            + "sprite_url, shiny_sprite_url, official_artwork_url, types, korean_types, " + STAT_COLUMNS + ", "
+            + "description, abilities, generation, evolution_chain_id, created_at, updated_at) VALUES ";
+    // types, korean_types, abilities는 jsonb 컬럼이라 JSON 문자열 파라미터를 캐스팅
+    private static final String ROW_PLACEHOLDER = "(" + placeholders(9) + ", ?::jsonb, ?::jsonb, "
+            + placeholders(13) + ", ?, ?::jsonb, " + placeholders(4) + ")";
+    private static final String INSERT_SUFFIX = " ON CONFLICT (pokemon_id) DO NOTHING";
+
+    // 전체 스트리밍 조회 시 한 번에 가져올 행 수 (PostgreSQL 서버 커서)
+    private static final int STREAM_FETCH_SIZE = 200;
+
+    private static final String SELECT_ALL_ORDERED =
+            "SELECT id, pokemon_id, name, korean_name, base_experience, height, weight, sprite_url, "
+            + "shiny_sprite_url, official_artwork_url, types, korean_types, " + STAT_COLUMNS + ", "
+            + "description, abilities, generation, evolution_chain_id FROM pokemon ORDER BY pokemon_id";
+
+    // pokemon.types / korean_types JSON → pokemon_type 행 (타입 행이 아직 없는 포켓몬만, 슬롯은 배열 순서)
+    private static final String SYNC_TYPES =
+            "INSERT INTO pokemon_type (pokemon_id, type_name, korean_type_name, slot) "
+            + "SELECT p.id, t.type_name, "
+            + "CASE WHEN jsonb_typeof(p.korean_types) = 'array' THEN p.korean_types ->> (t.slot::int - 1) END, t.slot "
+            + "FROM pokemon p "
+            + "CROSS JOIN LATERAL jsonb_array_elements_text(p.types) WITH ORDINALITY AS t(type_name, slot) "
+            + "WHERE jsonb_typeof(p.types) = 'array' "
+            + "AND NOT EXISTS (SELECT 1 FROM pokemon_type x WHERE x.pokemon_id = p.id)";
+    private static final String SYNC_TYPES_CONFLICT = " ON CONFLICT (pokemon_id, slot) DO NOTHING";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 이미 저장된 PokeAPI ID 조회 (배치당 IN 쿼리 1회)
+     */
+    public Set<Integer> findExistingPokemonIds(Collection<Integer> pokemonIds) {
+        if (pokemonIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        List<Integer> existing = namedParameterJdbcTemplate.queryForList(
+                "SELECT pokemon_id FROM pokemon WHERE pokemon_id IN (:ids)",
+                new MapSqlParameterSource("ids", pokemonIds),
+                Integer.class);
+        return new HashSet<>(existing);
+    }
+
+    /**
+     * 여러 포켓몬을 다중 행 INSERT로 저장 (pokemon_id 중복 행은 무시)
+     *
+     * @return 실제로 추가된 행 수
+     */
+    public int insertIgnoringDuplicates(List<Pokemon> pokemons) {
+        int inserted = 0;
+        for (int from = 0; from < pokemons.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Pokemon> chunk = pokemons.subList(from, Math.min(pokemons.size(), from + MAX_ROWS_PER_STATEMENT));
+            inserted += insertChunk(chunk);
+        }
+        return inserted;
+    }
+
+    /**
+     * species ID별 진화 체인 ID 반영 (값이 달라진 행만 수정)
+     *
+     * @return 수정된 행 수
+     */
+    public int updateEvolutionChainIds(Map<Integer, Integer> chainIdsBySpeciesId) {
+        if (chainIdsBySpeciesId.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> args = new ArrayList<>(chainIdsBySpeciesId.size());
+        for (Map.Entry<Integer, Integer> entry : chainIdsBySpeciesId.entrySet()) {
+            args.add(new Object[] { entry.getValue(), entry.getKey(), entry.getValue() });
+        }
+        int updated = 0;
+        for (int count : jdbcTemplate.batchUpdate(
+                "UPDATE pokemon SET evolution_chain_id = ? "
+                + "WHERE pokemon_id = ? AND evolution_chain_id IS DISTINCT FROM ?", args)) {
+            updated += Math.max(count, 0);
+        }
+        return updated;
+    }
+
+    /**
+     * 주어진 PokeAPI ID의 타입 행을 pokemon_type에 채움 (이미 있는 포켓몬은 건너뜀)
+     *
+     * @return 추가된 타입 행 수
+     */
+    public int syncTypes(Collection<Integer> pokemonIds) {
+        if (pokemonIds.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(
+                SYNC_TYPES + " AND p.pokemon_id IN (:ids)" + SYNC_TYPES_CONFLICT,
+                new MapSqlParameterSource("ids", pokemonIds));
+    }
+
+    /**
+     * 타입 행이 없는 모든 포켓몬의 타입 행 채움 (기존 데이터 백필)
+     *
+     * @return 추가된 타입 행 수
+     */
+    public int syncAllTypes() {
+        return jdbcTemplate.update(SYNC_TYPES + SYNC_TYPES_CONFLICT);
+    }
+
+    /**
+     * 전체 포켓몬을 pokemon_id 순으로 한 행씩 전달 (전방향 커서, fetch size 단위로 읽음)
+     *
+     * PostgreSQL은 autocommit이 꺼져 있어야 fetch size대로 나눠 읽으므로 읽기 전용 트랜잭션 안에서 실행한다.
+     */
+    @Transactional(readOnly = true)
+    public void forEachPokemon(Consumer<Pokemon> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    SELECT_ALL_ORDERED, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(mapPokemon(rs)));
+    }
+
+    private Pokemon mapPokemon(ResultSet rs) throws SQLException {
+        Pokemon pokemon = new Pokemon();
+        pokemon.setId(rs.getLong("id"));
+        pokemon.setPokemonId(getInteger(rs, "pokemon_id"));
+        pokemon.setName(rs.getString("name"));
+        pokemon.setKoreanName(rs.getString("korean_name"));
+        pokemon.setBaseExperience(getInteger(rs, "base_experience"));
+        pokemon.setHeight(getInteger(rs, "height"));
+        pokemon.setWeight(getInteger(rs, "weight"));
+        pokemon.setSpriteUrl(rs.getString("sprite_url"));
+        pokemon.setShinySpriteUrl(rs.getString("shiny_sprite_url"));
+        pokemon.setOfficialArtworkUrl(rs.getString("official_artwork_url"));
+        pokemon.setTypes(rs.getString("types"));
+        pokemon.setKoreanTypes(rs.getString("korean_types"));
+        pokemon.setHp(getShort(rs, "hp"));
+        pokemon.setAttack(getShort(rs, "attack"));
+        pokemon.setDefense(getShort(rs, "defense"));
+        pokemon.setSpecialAttack(getShort(rs, "special_attack"));
+        pokemon.setSpecialDefense(getShort(rs, "special_defense"));
+        pokemon.setSpeed(getShort(rs, "speed"));
+        pokemon.setBaseStatTotal(getShort(rs, "base_stat_total"));
+        pokemon.setHpEffort(getShort(rs, "hp_effort"));
+        pokemon.setAttackEffort(getShort(rs, "attack_effort"));
+        pokemon.setDefenseEffort(getShort(rs, "defense_effort"));
+        pokemon.setSpecialAttackEffort(getShort(rs, "special_attack_effort"));
+        pokemon.setSpecialDefenseEffort(getShort(rs, "special_defense_effort"));
+        pokemon.setSpeedEffort(getShort(rs, "speed_effort"));
+        pokemon.setDescription(rs.getString("description"));
+        pokemon.setAbilities(rs.getString("abilities"));
+        pokemon.setGeneration(getInteger(rs, "generation"));
+        pokemon.setEvolutionChainId(getInteger(rs, "evolution_chain_id"));
+        return pokemon;
+    }
+
+    private static Integer getInteger(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Short getShort(ResultSet rs, String column) throws SQLException {
+        short value = rs.getShort(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private int insertChunk(List<Pokemon> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + chunk.size() * (ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(chunk.size() * INSERT_COLUMNS);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+
+            Pokemon pokemon = chunk.get(i);
+            args.add(pokemon.getPokemonId());
+            args.add(pokemon.getName());
+            args.add(pokemon.getKoreanName());
+            args.add(pokemon.getBaseExperience());
+            args.add(pokemon.getHeight());
+            args.add(pokemon.getWeight());
+            args.add(pokemon.getSpriteUrl());
+            args.add(pokemon.getShinySpriteUrl());
+            args.add(pokemon.getOfficialArtworkUrl());
+            args.add(pokemon.getTypes());
+            args.add(pokemon.getKoreanTypes());
+            args.add(pokemon.getHp());
+            args.add(pokemon.getAttack());
+            args.add(pokemon.getDefense());
+            args.add(pokemon.getSpecialAttack());
+            args.add(pokemon.getSpecialDefense());
+            args.add(pokemon.getSpeed());
+            args.add(pokemon.getBaseStatTotal());
+            args.add(pokemon.getHpEffort());
+            args.add(pokemon.getAttackEffort());
+            args.add(pokemon.getDefenseEffort());
+            args.add(pokemon.getSpecialAttackEffort());
+            args.add(pokemon.getSpecialDefenseEffort());
+            args.add(pokemon.getSpeedEffort());
+            args.add(pokemon.getDescription());
+            args.add(pokemon.getAbilities());
+            args.add(pokemon.getGeneration());
+            args.add(pokemon.getEvolutionChainId());
+            args.add(now);
+            args.add(now);
+        }
+        sql.append(INSERT_SUFFIX);
+
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
@@ -1,12 +1,11 @@
 package com.pokeapi.backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 import java.util.List;
 import com.pokeapi.backend.entity.Pokemon;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 @Repository
 public interface PokemonRepository extends JpaRepository<Pokemon, Long> {
@@ -38,13 +37,31 @@ public interface PokemonRepository extends JpaRepository<Pokemon, Long> {
     // 이름 또는 한글 이름 검색
     Optional<Pokemon> findByNameOrKoreanName(String name, String koreanName);
 
-    //타입별 포켓몬 조회 (Json 타입 컬럼에서 검색)
-    @Query("SELECT p FROM Pokemon p WHERE p.koreanTypes LIKE %:type%")
-    List<Pokemon> findByKoreanTypeContaining(@Param("type") String type);
-
     /**
      * 포켓몬 ID 범위로 검색 (세대별 조회용)
      */
     List<Pokemon> findByPokemonIdBetween(Integer startId, Integer endId);
 
+    /**
+     * afterId 다음부터 ID 순 조회 (키셋/오프셋 페이징, LIMIT은 Pageable로 전달)
+     * type에 Pokemon 또는 PokemonSummary를 넘겨 조회할 컬럼을 고른다.
+     */
+    <T> List<T> findByPokemonIdGreaterThanOrderByPokemonIdAsc(Integer afterId, Pageable pageable, Class<T> type);
+
+    /**
+     * 세대 안에서 afterId 다음부터 ID 순 조회 (세대별 키셋/오프셋 페이징)
+     */
+    <T> List<T> findByGenerationAndPokemonIdGreaterThanOrderByPokemonIdAsc(Integer generation, Integer afterId,
+            Pageable pageable, Class<T> type);
+
+    /**
+     * afterId보다 큰 ID 개수 (전체 페이징 전체 개수)
+     */
+    long countByPokemonIdGreaterThan(Integer afterId);
+
+    /**
+     * 세대별 개수 (세대별 페이징 전체 개수)
+     */
+    long countByGeneration(Integer generation);
+
 }
@@ -0,0 +1,54 @@
+package com.pokeapi.backend.repository;
+
+/**
+ * 고급 검색 조건 (PokemonSearchMapper 파라미터)
+ * null인 조건은 WHERE 절에서 빠진다.
+ */
+public class PokemonSearchCondition {
+
+    private String type; // 영문 타입 이름
+    private Integer minHeight;
+    private Integer maxHeight;
+    private Integer minWeight;
+    private Integer maxWeight;
+    private Integer minAttack;
+    private Integer maxAttack;
+    private Integer minDefense;
+    private Integer maxDefense;
+    private Integer minHp;
+    private Integer maxHp;
+    private Integer minSpeed;
+    private Integer maxSpeed;
+    private Integer limit;
+
+    // Getter/Setter
+    public String getType() { return type; }
+    public Integer getMinHeight() { return minHeight; }
+    public Integer getMaxHeight() { return maxHeight; }
+    public Integer getMinWeight() { return minWeight; }
+    public Integer getMaxWeight() { return maxWeight; }
+    public Integer getMinAttack() { return minAttack; }
+    public Integer getMaxAttack() { return maxAttack; }
+    public Integer getMinDefense() { return minDefense; }
+    public Integer getMaxDefense() { return maxDefense; }
+    public Integer getMinHp() { return minHp; }
+    public Integer getMaxHp() { return maxHp; }
+    public Integer getMinSpeed() { return minSpeed; }
+    public Integer getMaxSpeed() { return maxSpeed; }
+    public Integer getLimit() { return limit; }
+
+    public void setType(String type) { this.type = type; }
+    public void setMinHeight(Integer minHeight) { this.minHeight = minHeight; }
+    public void setMaxHeight(Integer maxHeight) { this.maxHeight = maxHeight; }
+    public void setMinWeight(Integer minWeight) { this.minWeight = minWeight; }
+    public void setMaxWeight(Integer maxWeight) { this.maxWeight = maxWeight; }
+    public void setMinAttack(Integer minAttack) { this.minAttack = minAttack; }
+    public void setMaxAttack(Integer maxAttack) { this.maxAttack = maxAttack; }
+    public void setMinDefense(Integer minDefense) { this.minDefense = minDefense; }
+    public void setMaxDefense(Integer maxDefense) { this.maxDefense = maxDefense; }
+    public void setMinHp(Integer minHp) { this.minHp = minHp; }
+    public void setMaxHp(Integer maxHp) { this.maxHp = maxHp; }
+    public void setMinSpeed(Integer minSpeed) { this.minSpeed = minSpeed; }
+    public void setMaxSpeed(Integer maxSpeed) { this.maxSpeed = maxSpeed; }
+    public void setLimit(Integer limit) { this.limit = limit; }
+}
@@ -0,0 +1,26 @@
+package com.pokeapi.backend.repository;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+
+import com.pokeapi.backend.dto.PokemonDTO;
+
+/**
+ * 고급 검색 MyBatis 매퍼 (resources/mapper/PokemonSearchMapper.xml)
+ *
+ * 주어진 조건만 WHERE 절에 넣은 SQL 한 번으로 조회하고, 결과 행을 바로 PokemonDTO로 매핑한다.
+ */
+@Mapper
+public interface PokemonSearchMapper {
+
+    /**
+     * 조건에 맞는 포켓몬 조회 (pokemon_id 오름차순, limit이 있으면 그 수까지)
+     */
+    List<PokemonDTO> advancedSearch(PokemonSearchCondition condition);
+
+    /**
+     * 조건에 맞는 포켓몬의 요약 필드만 조회 (PokemonFieldSet.SUMMARY_FIELDS, 나머지 필드는 null)
+     */
+    List<PokemonDTO> advancedSearchSummary(PokemonSearchCondition condition);
+}
@@ -0,0 +1,21 @@
+package com.pokeapi.backend.repository;
+
+/**
+ * 목록/그리드용 포켓몬 요약 프로젝션 (설명/능력/능력치 TEXT 컬럼은 조회하지 않음)
+ */
+public interface PokemonSummary {
+
+    Integer getPokemonId();
+
+    String getName();
+
+    String getKoreanName();
+
+    String getSpriteUrl();
+
+    String getTypes(); // JSON 형태
+
+    String getKoreanTypes(); // JSON 형태
+
+    Integer getGeneration();
+}
@@ -37,55 +37,55 @@ public interface WorldCupResultRepository extends JpaRepository<WorldCupResult,
     // 토너먼트 ID 존재 여부 확인
     boolean existsByTournamentId(String tournamentId);
 
-    // 타입별 월드컵 결과 조회 (conditions에서 타입 추출) - 오타 수정: LIDE → LIKE, CreatedAtdDesc → CreatedAtDesc
-    @Query("SELECT wr FROM WorldCupResult wr " +
-           "WHERE wr.conditions LIKE %:type% " +
-           "ORDER BY wr.createdAt DESC")
+    // 타입별 월드컵 결과 조회 (conditions jsonb @> 포함 검색, GIN 인덱스 사용)
+    @Query(nativeQuery = true, value = "SELECT wr.* FROM world_cup_results wr " +
+           "WHERE wr.conditions @> jsonb_build_object('type', CAST(:type AS text)) " +
+           "ORDER BY wr.created_at DESC")
     List<WorldCupResult> findByTypeOrderByCreatedAtDesc(@Param("type") String type);
 
-    // 세대별 월드컵 결과 조회 (conditions에서 세대 추출)
-    @Query("SELECT wr FROM WorldCupResult wr " +
-           "WHERE wr.conditions LIKE %:generation% " +
-           "ORDER BY wr.createdAt DESC")
-    List<WorldCupResult> findByGenerationOrderByCreatedAtDesc(@Param("generation") String generation);
+    // 세대별 월드컵 결과 조회 (세대 번호 정확히 일치, 1세대 조건이 10세대에 걸리지 않음)
+    @Query(nativeQuery = true, value = "SELECT wr.* FROM world_cup_results wr " +
+           "WHERE wr.conditions @> jsonb_build_object('generation', CAST(:generation AS integer)) " +
+           "ORDER BY wr.created_at DESC")
+    List<WorldCupResult> findByGenerationOrderByCreatedAtDesc(@Param("generation") Integer generation);
     
     // 세대별 + 타입별 월드컵 결과 조회
-    @Query("SELECT wr FROM WorldCupResult wr " +
-           "WHERE wr.conditions LIKE %:generation% " +
-           "AND wr.conditions LIKE %:type% " +
-           "ORDER BY wr.createdAt DESC")
+    @Query(nativeQuery = true, value = "SELECT wr.* FROM world_cup_results wr " +
+           "WHERE wr.conditions @> jsonb_build_object('generation', CAST(:generation AS integer)) " +
+           "AND wr.conditions @> jsonb_build_object('type', CAST(:type AS text)) " +
+           "ORDER BY wr.created_at DESC")
     List<WorldCupResult> findByGenerationAndTypeOrderByCreatedAtDesc(
-        @Param("generation") String generation, 
+        @Param("generation") Integer generation, 
         @Param("type") String type);
 
     // 타입별 + 기간별 월드컵 결과 조회 (메서드명 수정: findByTypeAndDateOrderByCreatedAtDesc → findByTypeAndPeriodOrderByCreatedAtDesc)
-    @Query("SELECT wr FROM WorldCupResult wr " +
-           "WHERE wr.conditions LIKE %:type% " +
-           "AND wr.createdAt BETWEEN :startDate AND :endDate " +
-           "ORDER BY wr.createdAt DESC")
+    @Query(nativeQuery = true, value = "SELECT wr.* FROM world_cup_results wr " +
+           "WHERE wr.conditions @> jsonb_build_object('type', CAST(:type AS text)) " +
+           "AND wr.created_at BETWEEN :startDate AND :endDate " +
+           "ORDER BY wr.created_at DESC")
     List<WorldCupResult> findByTypeAndPeriodOrderByCreatedAtDesc(
         @Param("type") String type, 
         @Param("startDate") LocalDateTime startDate, 
         @Param("endDate") LocalDateTime endDate);
         
     // 세대별 + 기간별 월드컵 결과 조회
-    @Query("SELECT wr FROM WorldCupResult wr " +
-           "WHERE wr.conditions LIKE %:generation% " +
-           "AND wr.createdAt BETWEEN :startDate AND :endDate " +
-           "ORDER BY wr.createdAt DESC")
+    @Query(nativeQuery = true, value = "SELECT wr.* FROM world_cup_results wr " +
+           "WHERE wr.conditions @> jsonb_build_object('generation', CAST(:generation AS integer)) " +
+           "AND wr.created_at BETWEEN :startDate AND :endDate " +
+           "ORDER BY wr.created_at DESC")
     List<WorldCupResult> findByGenerationAndPeriodOrderByCreatedAtDesc(
-        @Param("generation") String generation, 
+        @Param("generation") Integer generation, 
         @Param("startDate") LocalDateTime startDate, 
         @Param("endDate") LocalDateTime endDate);
         
     // 세대별 + 타입별 + 기간별 월드컵 결과 조회
-    @Query("SELECT wr FROM WorldCupResult wr " +
-           "WHERE wr.conditions LIKE %:generation% " +
-           "AND wr.conditions LIKE %:type% " +
-           "AND wr.createdAt BETWEEN :startDate AND :endDate " +
-           "ORDER BY wr.createdAt DESC")
+    @Query(nativeQuery = true, value = "SELECT wr.* FROM world_cup_results wr " +
+           "WHERE wr.conditions @> jsonb_build_object('generation', CAST(:generation AS integer)) " +
+           "AND wr.conditions @> jsonb_build_object('type', CAST(:type AS text)) " +
+           "AND wr.created_at BETWEEN :startDate AND :endDate " +
+           "ORDER BY wr.created_at DESC")
     List<WorldCupResult> findByGenerationAndTypeAndPeriodOrderByCreatedAtDesc(
-        @Param("generation") String generation, 
+        @Param("generation") Integer generation, 
         @Param("type") String type,
         @Param("startDate") LocalDateTime startDate, 
         @Param("endDate") LocalDateTime endDate);
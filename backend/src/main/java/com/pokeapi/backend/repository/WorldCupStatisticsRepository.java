@@ -38,17 +38,19 @@ public interface WorldCupStatisticsRepository extends JpaRepository<WorldCupStat
            "ORDER BY w.averageRank ASC, w.totalWins DESC")
     List<WorldCupStatistics> findTopByGenerationOrderByRankAndWins(@Param("generation") Integer generation);
         
-    // 타입별 TOP 포켓몬 조회 (koreanTypes 필드에서 LIKE 검색) - 오타 수정: LIDE → LIKE
+    // 타입별 TOP 포켓몬 조회 (pokemon_type 영문 타입 이름 동등 조인)
     @Query("SELECT w FROM WorldCupStatistics w " + 
            "JOIN Pokemon p ON w.pokemonId = p.pokemonId " +
-           "WHERE p.koreanTypes LIKE %:typeName% " +
+           "JOIN PokemonTypeSlot t ON t.pokemonId = p.id " +
+           "WHERE t.typeName = :typeName " +
            "ORDER BY w.averageRank ASC, w.totalWins DESC")
     List<WorldCupStatistics> findTopByTypeOrderByRankAndWins(@Param("typeName") String typeName);
     
-    // 세대별 + 타입별 TOP 포켓몬 조회 - 오타 수정: LIKE %:typeName → LIKE %:typeName%
+    // 세대별 + 타입별 TOP 포켓몬 조회 (pokemon_type 영문 타입 이름 동등 조인)
     @Query("SELECT w FROM WorldCupStatistics w " + 
            "JOIN Pokemon p ON w.pokemonId = p.pokemonId " +
-           "WHERE p.generation = :generation AND p.koreanTypes LIKE %:typeName% " +
+           "JOIN PokemonTypeSlot t ON t.pokemonId = p.id " +
+           "WHERE p.generation = :generation AND t.typeName = :typeName " +
            "ORDER BY w.averageRank ASC, w.totalWins DESC")
     List<WorldCupStatistics> findTopByGenerationAndTypeOrderByRankAndWins(
         @Param("generation") Integer generation, 
@@ -60,63 +62,63 @@ public interface WorldCupStatisticsRepository extends JpaRepository<WorldCupStat
     // 우승 횟수가 있는 포켓몬들만 조회
     List<WorldCupStatistics> findByTotalWinsGreaterThanOrderByTotalWinsDesc(Integer minWins);
     
-    // ===== 우승자 기준 조회 (WorldCupResult와 조인) =====
+    // ===== 우승자 기준 조회 (WorldCupResult와 조인, conditions jsonb @> 포함 검색) =====
     
     // 타입별 우승자들 조회 (WorldCupResult와 조인)
-    @Query("SELECT w FROM WorldCupStatistics w " +
-           "JOIN WorldCupResult wr ON w.pokemonId = wr.winnerId " +
-           "WHERE wr.conditions LIKE %:type% " +
-           "ORDER BY w.totalWins DESC, w.averageRank ASC")
+    @Query(nativeQuery = true, value = "SELECT w.* FROM world_cup_statistics w " +
+           "JOIN world_cup_results wr ON w.pokemon_id = wr.winner_id " +
+           "WHERE wr.conditions @> jsonb_build_object('type', CAST(:type AS text)) " +
+           "ORDER BY w.total_wins DESC, w.average_rank ASC")
     List<WorldCupStatistics> findTypeWinners(@Param("type") String type);
     
     // 세대별 우승자들 조회 (WorldCupResult와 조인)
-    @Query("SELECT w FROM WorldCupStatistics w " +
-           "JOIN WorldCupResult wr ON w.pokemonId = wr.winnerId " +
-           "WHERE wr.conditions LIKE %:generation% " +
-           "ORDER BY w.totalWins DESC, w.averageRank ASC")
-    List<WorldCupStatistics> findGenerationWinners(@Param("generation") String generation);
+    @Query(nativeQuery = true, value = "SELECT w.* FROM world_cup_statistics w " +
+           "JOIN world_cup_results wr ON w.pokemon_id = wr.winner_id " +
+           "WHERE wr.conditions @> jsonb_build_object('generation', CAST(:generation AS integer)) " +
+           "ORDER BY w.total_wins DESC, w.average_rank ASC")
+    List<WorldCupStatistics> findGenerationWinners(@Param("generation") Integer generation);
     
     // 세대별 + 타입별 우승자 조회
-    @Query("SELECT w FROM WorldCupStatistics w " +
-           "JOIN WorldCupResult wr ON w.pokemonId = wr.winnerId " +
-           "WHERE wr.conditions LIKE %:generation% " +
-           "AND wr.conditions LIKE %:type% " +
-           "ORDER BY w.totalWins DESC, w.averageRank ASC")
+    @Query(nativeQuery = true, value = "SELECT w.* FROM world_cup_statistics w " +
+           "JOIN world_cup_results wr ON w.pokemon_id = wr.winner_id " +
+           "WHERE wr.conditions @> jsonb_build_object('generation', CAST(:generation AS integer)) " +
+           "AND wr.conditions @> jsonb_build_object('type', CAST(:type AS text)) " +
+           "ORDER BY w.total_wins DESC, w.average_rank ASC")
     List<WorldCupStatistics> findGenerationAndTypeWinners(
-        @Param("generation") String generation, 
+        @Param("generation") Integer generation, 
         @Param("type") String type);
     
     // 타입별 + 기간별 우승자 조회
-    @Query("SELECT w FROM WorldCupStatistics w " +
-           "JOIN WorldCupResult wr ON w.pokemonId = wr.winnerId " +
-           "WHERE wr.conditions LIKE %:type% " +
-           "AND wr.createdAt BETWEEN :startDate AND :endDate " +
-           "ORDER BY wr.createdAt DESC")
+    @Query(nativeQuery = true, value = "SELECT w.* FROM world_cup_statistics w " +
+           "JOIN world_cup_results wr ON w.pokemon_id = wr.winner_id " +
+           "WHERE wr.conditions @> jsonb_build_object('type', CAST(:type AS text)) " +
+           "AND wr.created_at BETWEEN :startDate AND :endDate " +
+           "ORDER BY wr.created_at DESC")
     List<WorldCupStatistics> findTypeWinnersByPeriod(
         @Param("type") String type, 
         @Param("startDate") LocalDateTime startDate, 
         @Param("endDate") LocalDateTime endDate);
     
     // 세대별 + 기간별 우승자 조회
-    @Query("SELECT w FROM WorldCupStatistics w " +
-           "JOIN WorldCupResult wr ON w.pokemonId = wr.winnerId " +
-           "WHERE wr.conditions LIKE %:generation% " +
-           "AND wr.createdAt BETWEEN :startDate AND :endDate " +
-           "ORDER BY wr.createdAt DESC")
+    @Query(nativeQuery = true, value = "SELECT w.* FROM world_cup_statistics w " +
+           "JOIN world_cup_results wr ON w.pokemon_id = wr.winner_id " +
+           "WHERE wr.conditions @> jsonb_build_object('generation', CAST(:generation AS integer)) " +
+           "AND wr.created_at BETWEEN :startDate AND :endDate " +
+           "ORDER BY wr.created_at DESC")
     List<WorldCupStatistics> findGenerationWinnersByPeriod(
-        @Param("generation") String generation, 
+        @Param("generation") Integer generation, 
         @Param("startDate") LocalDateTime startDate, 
         @Param("endDate") LocalDateTime endDate);
     
     // 세대별 + 타입별 + 기간별 우승자 조회
-    @Query("SELECT w FROM WorldCupStatistics w " +
-           "JOIN WorldCupResult wr ON w.pokemonId = wr.winnerId " +
-           "WHERE wr.conditions LIKE %:generation% " +
-           "AND wr.conditions LIKE %:type% " +
-           "AND wr.createdAt BETWEEN :startDate AND :endDate " +
-           "ORDER BY wr.createdAt DESC")
+    @Query(nativeQuery = true, value = "SELECT w.* FROM world_cup_statistics w " +
+           "JOIN world_cup_results wr ON w.pokemon_id = wr.winner_id " +
+           "WHERE wr.conditions @> jsonb_build_object('generation', CAST(:generation AS integer)) " +
+           "AND wr.conditions @> jsonb_build_object('type', CAST(:type AS text)) " +
+           "AND wr.created_at BETWEEN :startDate AND :endDate " +
+           "ORDER BY wr.created_at DESC")
     List<WorldCupStatistics> findGenerationAndTypeWinnersByPeriod(
-        @Param("generation") String generation, 
+        @Param("generation") Integer generation, 
         @Param("type") String type,
         @Param("startDate") LocalDateTime startDate, 
         @Param("endDate") LocalDateTime endDate);
@@ -0,0 +1,40 @@
+package com.pokeapi.backend.service;
+
+/**
+ * 카탈로그 버전 하나에 묶인 불변 목록 번들
+ *
+ * 직렬화한 JSON 바이트와 미리 gzip으로 압축한 바이트를 함께 들고 있어서,
+ * 요청마다 직렬화/압축하지 않고 그대로 내려준다.
+ */
+public final class CatalogBundle {
+
+    private final long version;
+    private final String name;
+    private final int count;
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+
+    public CatalogBundle(long version, String name, int count, byte[] json, byte[] gzip, String etag) {
+        this.version = version;
+        this.name = name;
+        this.count = count;
+        this.json = json;
+        this.gzip = gzip;
+        this.etag = etag;
+    }
+
+    public long getVersion() { return version; }
+    public String getName() { return name; }
+    public int getCount() { return count; }
+    public byte[] getJson() { return json; }
+    public byte[] getGzip() { return gzip; }
+    public String getEtag() { return etag; }
+
+    /**
+     * gzip 표현용 ETag (표현마다 강한 ETag가 달라야 함)
+     */
+    public String getGzipEtag() {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+}
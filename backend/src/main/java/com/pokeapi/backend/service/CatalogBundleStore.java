@@ -0,0 +1,177 @@
+package com.pokeapi.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokeapi.backend.dto.PokemonDTO;
+
+/**
+ * 카탈로그 버전별 정적 번들 저장소 (all, gen-1 ~ gen-9)
+ *
+ * 세대 번들은 ID 구간이 아니라 저장된 generation 값(타입 인덱스의 세대 비트맵)으로 나눈다.
+ * 번들은 처음 요청될 때 현재 스냅샷으로 한 번만 직렬화/압축하고, 같은 버전 동안 재사용한다.
+ * 카탈로그 버전이 바뀌면 이전 버전 번들은 통째로 버리고, 이전 버전 URL은 더 이상 응답하지 않는다.
+ */
+@Component
+public class CatalogBundleStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogBundleStore.class);
+
+    public static final String ALL_BUNDLE = "all";
+    private static final String GENERATION_BUNDLE_PREFIX = "gen-";
+
+    @Autowired
+    private PokemonCatalog pokemonCatalog;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // 현재 버전의 번들 (버전이 바뀌면 새 객체로 교체)
+    private volatile VersionedBundles bundles = new VersionedBundles(-1L);
+
+    /**
+     * 현재 카탈로그 버전
+     */
+    public long currentVersion() {
+        return pokemonCatalog.getVersion();
+    }
+
+    /**
+     * 제공하는 번들 이름 목록 (all, gen-1 ...)
+     */
+    public List<String> bundleNames() {
+        List<String> names = new ArrayList<>();
+        names.add(ALL_BUNDLE);
+        for (int generation = 1; generation <= PokemonTypeIndex.MAX_GENERATION; generation++) {
+            names.add(GENERATION_BUNDLE_PREFIX + generation);
+        }
+        return names;
+    }
+
+    /**
+     * 번들 조회
+     *
+     * @return 현재 버전이 아니거나 없는 번들 이름이면 null
+     */
+    public CatalogBundle find(long version, String name) throws IOException {
+        CatalogSnapshot snapshot = pokemonCatalog.current();
+        if (snapshot.getVersion() != version || !bundleNames().contains(name)) {
+            return null;
+        }
+
+        VersionedBundles current = bundles;
+        if (current.version != version) {
+            synchronized (this) {
+                if (bundles.version != version) {
+                    bundles = new VersionedBundles(version);
+                }
+                current = bundles;
+            }
+        }
+
+        CatalogBundle bundle = current.byName.get(name);
+        if (bundle == null) {
+            // 같은 번들을 동시에 두 번 만들지 않도록 버전 단위로 직렬화
+            synchronized (current) {
+                bundle = current.byName.get(name);
+                if (bundle == null) {
+                    bundle = build(snapshot, name);
+                    current.byName.put(name, bundle);
+                }
+            }
+        }
+        return bundle;
+    }
+
+    /**
+     * 번들 상태 (모니터링용)
+     */
+    public Map<String, Object> getStats() {
+        VersionedBundles current = bundles;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("version", current.version);
+        stats.put("built", current.byName.size());
+        long jsonBytes = 0;
+        long gzipBytes = 0;
+        for (CatalogBundle bundle : current.byName.values()) {
+            jsonBytes += bundle.getJson().length;
+            gzipBytes += bundle.getGzip().length;
+        }
+        stats.put("jsonBytes", jsonBytes);
+        stats.put("gzipBytes", gzipBytes);
+        return stats;
+    }
+
+    private CatalogBundle build(CatalogSnapshot snapshot, String name) throws IOException {
+        long start = System.currentTimeMillis();
+        List<CatalogPokemon> entries;
+        if (ALL_BUNDLE.equals(name)) {
+            entries = snapshot.getEntries();
+        } else {
+            entries = snapshot.findByGeneration(Integer.parseInt(name.substring(GENERATION_BUNDLE_PREFIX.length())));
+        }
+
+        List<PokemonDTO> dtos = new ArrayList<>(entries.size());
+        for (CatalogPokemon entry : entries) {
+            dtos.add(entry.toDTO());
+        }
+        byte[] json = objectMapper.writeValueAsBytes(dtos);
+        byte[] gzip = gzip(json);
+
+        CatalogBundle bundle = new CatalogBundle(snapshot.getVersion(), name, dtos.size(), json, gzip, etagOf(json));
+        logger.info("카탈로그 번들 생성: {} (버전={}, {}마리, json {}B, gzip {}B, {}ms)", name,
+                snapshot.getVersion(), dtos.size(), json.length, gzip.length, System.currentTimeMillis() - start);
+        return bundle;
+    }
+
+    /**
+     * 한 번만 압축하므로 최고 압축률로
+     */
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 내용 기준 강한 ETag (SHA-256 앞 16바이트, 카탈로그 응답 ETag에도 사용)
+     */
+    public static String etagOf(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (Exception e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static final class VersionedBundles {
+        private final long version;
+        private final Map<String, CatalogBundle> byName = new ConcurrentHashMap<>();
+
+        private VersionedBundles(long version) {
+            this.version = version;
+        }
+    }
+}
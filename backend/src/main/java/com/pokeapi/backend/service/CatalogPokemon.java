@@ -0,0 +1,130 @@
+package com.pokeapi.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.pokeapi.backend.dto.PokemonDTO;
+
+/**
+ * 카탈로그 스냅샷에 들어가는 불변 포켓몬 레코드
+ * JSON 컬럼(types, koreanTypes, abilities)을 한 번만 파싱해서 보관한다.
+ */
+public final class CatalogPokemon {
+
+    private final Long id;
+    private final Integer pokemonId;
+    private final String name;
+    private final String koreanName;
+    private final Integer baseExperience;
+    private final Integer height;
+    private final Integer weight;
+    private final String spriteUrl;
+    private final String shinySpriteUrl;
+    private final String officialArtworkUrl;
+    private final List<String> types;
+    private final List<String> koreanTypes;
+    private final List<Stat> stats;
+    private final String description;
+    private final List<String> abilities;
+    private final Integer generation;
+
+    public CatalogPokemon(Long id, Integer pokemonId, String name, String koreanName,
+            Integer baseExperience, Integer height, Integer weight,
+            String spriteUrl, String shinySpriteUrl, String officialArtworkUrl,
+            List<String> types, List<String> koreanTypes, List<Stat> stats,
+            String description, List<String> abilities, Integer generation) {
+        this.id = id;
+        this.pokemonId = pokemonId;
+        this.name = name;
+        this.koreanName = koreanName;
+        this.baseExperience = baseExperience;
+        this.height = height;
+        this.weight = weight;
+        this.spriteUrl = spriteUrl;
+        this.shinySpriteUrl = shinySpriteUrl;
+        this.officialArtworkUrl = officialArtworkUrl;
+        this.types = immutableCopy(types);
+        this.koreanTypes = immutableCopy(koreanTypes);
+        this.stats = immutableCopy(stats);
+        this.description = description;
+        this.abilities = immutableCopy(abilities);
+        this.generation = generation;
+    }
+
+    public Long getId() { return id; }
+    public Integer getPokemonId() { return pokemonId; }
+    public String getName() { return name; }
+    public String getKoreanName() { return koreanName; }
+    public Integer getBaseExperience() { return baseExperience; }
+    public Integer getHeight() { return height; }
+    public Integer getWeight() { return weight; }
+    public String getSpriteUrl() { return spriteUrl; }
+    public String getShinySpriteUrl() { return shinySpriteUrl; }
+    public String getOfficialArtworkUrl() { return officialArtworkUrl; }
+    public List<String> getTypes() { return types; }
+    public List<String> getKoreanTypes() { return koreanTypes; }
+    public List<Stat> getStats() { return stats; }
+    public String getDescription() { return description; }
+    public List<String> getAbilities() { return abilities; }
+    public Integer getGeneration() { return generation; }
+
+    /**
+     * API 응답용 DTO 생성 (JSON 파싱 없이 필드 복사만 수행)
+     */
+    public PokemonDTO toDTO() {
+        PokemonDTO dto = new PokemonDTO();
+        dto.setPokemonId(pokemonId);
+        dto.setName(name);
+        dto.setKoreanName(koreanName);
+        dto.setBaseExperience(baseExperience);
+        dto.setHeight(height);
+        dto.setWeight(weight);
+        dto.setTypes(types);
+        dto.setKoreanTypes(koreanTypes);
+        dto.setAbilities(abilities);
+
+        List<PokemonDTO.StatDTO> statDTOs = new ArrayList<>(stats.size());
+        for (Stat stat : stats) {
+            PokemonDTO.StatDTO statDTO = new PokemonDTO.StatDTO();
+            statDTO.setName(stat.getName());
+            statDTO.setBaseStat(stat.getBaseStat());
+            statDTO.setEffort(stat.getEffort());
+            statDTOs.add(statDTO);
+        }
+        dto.setStats(statDTOs);
+
+        dto.setSpriteUrl(spriteUrl);
+        dto.setShinySpriteUrl(shinySpriteUrl);
+        dto.setOfficialArtworkUrl(officialArtworkUrl);
+        dto.setDescription(description);
+        dto.setGeneration(generation);
+        return dto;
+    }
+
+    private static <T> List<T> immutableCopy(List<T> list) {
+        if (list == null || list.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    /**
+     * 불변 능력치 정보
+     */
+    public static final class Stat {
+        private final String name;
+        private final Integer baseStat;
+        private final Integer effort;
+
+        public Stat(String name, Integer baseStat, Integer effort) {
+            this.name = name;
+            this.baseStat = baseStat;
+            this.effort = effort;
+        }
+
+        public String getName() { return name; }
+        public Integer getBaseStat() { return baseStat; }
+        public Integer getEffort() { return effort; }
+    }
+}
@@ -0,0 +1,151 @@
+package com.pokeapi.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 포켓몬 카탈로그의 읽기 전용 스냅샷
+ * 생성 이후에는 변경되지 않으며, 변경이 필요하면 새 스냅샷을 만들어 통째로 교체한다.
+ * 항목은 pokemonId 오름차순으로 정렬되어 있고, 리스트 인덱스(ordinal)가 각종 인덱스의 키가 된다.
+ */
+public final class CatalogSnapshot {
+
+    private static final Comparator<CatalogPokemon> BY_POKEMON_ID = Comparator.comparing(
+            CatalogPokemon::getPokemonId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final long version;
+    private final List<CatalogPokemon> entries;
+    private final int[] pokemonIds;
+    private final Map<String, Integer> ordinalByName;
+    private final Map<String, Integer> ordinalByKoreanName;
+    private final PokemonTypeIndex typeIndex;
+    private final PokemonNameIndex nameIndex;
+    private final PokemonAutocompleteIndex autocompleteIndex;
+
+    public CatalogSnapshot(long version, List<CatalogPokemon> pokemons) {
+        List<CatalogPokemon> sorted = new ArrayList<>(pokemons);
+        sorted.sort(BY_POKEMON_ID);
+
+        this.version = version;
+        this.entries = Collections.unmodifiableList(sorted);
+        this.pokemonIds = new int[sorted.size()];
+        this.ordinalByName = new HashMap<>(sorted.size() * 2);
+        this.ordinalByKoreanName = new HashMap<>(sorted.size() * 2);
+
+        for (int i = 0; i < sorted.size(); i++) {
+            CatalogPokemon pokemon = sorted.get(i);
+            pokemonIds[i] = pokemon.getPokemonId() != null ? pokemon.getPokemonId() : Integer.MAX_VALUE;
+            if (pokemon.getName() != null) {
+                ordinalByName.putIfAbsent(pokemon.getName().toLowerCase(Locale.ROOT), i);
+            }
+            if (pokemon.getKoreanName() != null) {
+                ordinalByKoreanName.putIfAbsent(pokemon.getKoreanName(), i);
+            }
+        }
+        this.typeIndex = new PokemonTypeIndex(sorted);
+        this.nameIndex = new PokemonNameIndex(sorted);
+        this.autocompleteIndex = new PokemonAutocompleteIndex(sorted);
+    }
+
+    /**
+     * 빈 스냅샷 (DB 로딩 전)
+     */
+    public static CatalogSnapshot empty() {
+        return new CatalogSnapshot(0L, Collections.emptyList());
+    }
+
+    public long getVersion() { return version; }
+    public List<CatalogPokemon> getEntries() { return entries; }
+    public int size() { return entries.size(); }
+    public boolean isEmpty() { return entries.isEmpty(); }
+    public CatalogPokemon get(int ordinal) { return entries.get(ordinal); }
+    public PokemonTypeIndex getTypeIndex() { return typeIndex; }
+    public PokemonAutocompleteIndex getAutocompleteIndex() { return autocompleteIndex; }
+
+    /**
+     * 영문 이름 또는 한글 이름으로 조회
+     */
+    public CatalogPokemon findByNameOrKoreanName(String name) {
+        if (name == null) {
+            return null;
+        }
+        Integer ordinal = ordinalByName.get(name.toLowerCase(Locale.ROOT));
+        if (ordinal == null) {
+            ordinal = ordinalByKoreanName.get(name);
+        }
+        return ordinal != null ? entries.get(ordinal) : null;
+    }
+
+    /**
+     * 한글 이름으로 조회
+     */
+    public CatalogPokemon findByKoreanName(String koreanName) {
+        Integer ordinal = koreanName != null ? ordinalByKoreanName.get(koreanName) : null;
+        return ordinal != null ? entries.get(ordinal) : null;
+    }
+
+    /**
+     * 이름 부분일치 검색 (정확 > 접두 > 중간 일치 순, 최대 limit개, includeEnglish면 영문 이름도 대상)
+     */
+    public List<CatalogPokemon> searchByName(String keyword, int limit, boolean includeEnglish) {
+        List<Integer> ordinals = nameIndex.search(keyword, limit, includeEnglish);
+        List<CatalogPokemon> result = new ArrayList<>(ordinals.size());
+        for (int ordinal : ordinals) {
+            result.add(entries.get(ordinal));
+        }
+        return result;
+    }
+
+    /**
+     * PokeAPI ID로 조회 (이진 탐색)
+     */
+    public CatalogPokemon findByPokemonId(int pokemonId) {
+        int ordinal = ordinalOf(pokemonId);
+        return ordinal >= 0 ? entries.get(ordinal) : null;
+    }
+
+    /**
+     * PokeAPI ID의 ordinal 조회 (없으면 -1)
+     */
+    public int ordinalOf(int pokemonId) {
+        int index = lowerBound(pokemonId);
+        if (index < pokemonIds.length && pokemonIds[index] == pokemonId) {
+            return index;
+        }
+        return -1;
+    }
+
+    /**
+     * 세대로 조회 (저장된 generation 기준 세대 비트맵, pokemonId 순)
+     */
+    public List<CatalogPokemon> findByGeneration(int generation) {
+        long[] bits = typeIndex.matching(null, generation);
+        List<CatalogPokemon> result = new ArrayList<>();
+        for (int i = PokemonTypeIndex.nextSetBit(bits, 0); i >= 0; i = PokemonTypeIndex.nextSetBit(bits, i + 1)) {
+            result.add(entries.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * pokemonId 이상인 첫 번째 ordinal
+     */
+    int lowerBound(int pokemonId) {
+        int low = 0;
+        int high = pokemonIds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (pokemonIds[mid] < pokemonId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
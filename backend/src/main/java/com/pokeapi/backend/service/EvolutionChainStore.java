@@ -0,0 +1,298 @@
+package com.pokeapi.backend.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokeapi.backend.dto.ChainDTO;
+import com.pokeapi.backend.dto.EvolutionDTO;
+import com.pokeapi.backend.entity.EvolutionChain;
+import com.pokeapi.backend.repository.EvolutionChainRepository;
+import com.pokeapi.backend.repository.PokemonBatchRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 진화 체인 로컬 저장소
+ *
+ * evolution_chain 테이블의 체인 문서를 메모리에 올려 두고,
+ * 체인 문서에 나오는 species(이름/ID) → 체인 ID 색인을 만든다.
+ * 시작 후 백그라운드에서 PokeAPI의 전체 체인(약 540개)을 동시에 받아 비어 있는 것만 채운다.
+ */
+@Component
+public class EvolutionChainStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(EvolutionChainStore.class);
+
+    private static final int CHAIN_LIST_LIMIT = 100000;
+    private static final int SAVE_BATCH_SIZE = 50;
+
+    @Autowired
+    private EvolutionChainRepository evolutionChainRepository;
+
+    @Autowired
+    private PokemonBatchRepository pokemonBatchRepository;
+
+    @Autowired
+    private WebClient webClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${pokemon.evolution.prefetch-on-startup:true}")
+    private boolean prefetchOnStartup;
+
+    @Value("${pokemon.import.concurrency:8}")
+    private int prefetchConcurrency;
+
+    // 체인 ID → 체인
+    private final Map<Integer, EvolutionDTO> chains = new ConcurrentHashMap<>();
+    // species 이름 → 체인 ID
+    private final Map<String, Integer> chainIdsBySpeciesName = new ConcurrentHashMap<>();
+    // species ID (= 기본 폼 PokeAPI ID) → 체인 ID
+    private final Map<Integer, Integer> chainIdsBySpeciesId = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean prefetching = new AtomicBoolean(false);
+    private final AtomicLong prefetchedChains = new AtomicLong();
+    private final AtomicLong prefetchFailures = new AtomicLong();
+    private volatile boolean prefetchCompleted = false;
+
+    /**
+     * 애플리케이션 시작 완료 후 저장된 체인 적재, 이어서 백그라운드 사전 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            for (EvolutionChain chain : evolutionChainRepository.findAll()) {
+                index(chain.getId(), objectMapper.readValue(chain.getChainData(), EvolutionDTO.class));
+            }
+            logger.info("진화 체인 적재 완료: 체인 {}개, species {}개", chains.size(), chainIdsBySpeciesId.size());
+        } catch (Exception e) {
+            logger.error("진화 체인 적재 실패: {}", e.getMessage(), e);
+        }
+
+        if (prefetchOnStartup) {
+            CompletableFuture.runAsync(this::prefetch);
+        }
+    }
+
+    /**
+     * 체인 조회 (없으면 null)
+     */
+    public EvolutionDTO findChain(Integer chainId) {
+        return chainId != null ? chains.get(chainId) : null;
+    }
+
+    /**
+     * species ID로 체인 ID 조회 (없으면 null)
+     */
+    public Integer findChainIdBySpeciesId(Integer speciesId) {
+        return speciesId != null ? chainIdsBySpeciesId.get(speciesId) : null;
+    }
+
+    /**
+     * species 이름으로 체인 ID 조회 (없으면 null)
+     */
+    public Integer findChainIdBySpeciesName(String speciesName) {
+        return speciesName != null ? chainIdsBySpeciesName.get(speciesName.toLowerCase(Locale.ROOT)) : null;
+    }
+
+    /**
+     * 포켓몬 조회 중 species 문서에서 알아낸 체인 ID 기억
+     */
+    public void registerSpecies(Integer speciesId, String speciesName, Integer chainId) {
+        if (chainId == null) {
+            return;
+        }
+        if (speciesId != null) {
+            chainIdsBySpeciesId.put(speciesId, chainId);
+        }
+        if (speciesName != null) {
+            chainIdsBySpeciesName.put(speciesName.toLowerCase(Locale.ROOT), chainId);
+        }
+    }
+
+    /**
+     * PokeAPI에서 받은 체인 문서 저장 (DB + 메모리)
+     */
+    public EvolutionDTO save(Integer chainId, String chainJson) throws Exception {
+        EvolutionDTO chain = objectMapper.readValue(chainJson, EvolutionDTO.class);
+        evolutionChainRepository.save(new EvolutionChain(chainId, chainJson));
+        index(chainId, chain);
+        return chain;
+    }
+
+    /**
+     * PokeAPI 전체 진화 체인 중 아직 없는 것만 동시에 받아 저장
+     *
+     * @return 새로 저장한 체인 수
+     */
+    public int prefetch() {
+        if (!prefetching.compareAndSet(false, true)) {
+            logger.info("진화 체인 사전 적재가 이미 진행 중입니다.");
+            return 0;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            List<Integer> missing = new ArrayList<>();
+            for (Integer chainId : fetchChainIds()) {
+                if (!chains.containsKey(chainId)) {
+                    missing.add(chainId);
+                }
+            }
+            logger.info("진화 체인 사전 적재 시작: 전체 중 누락 {}개", missing.size());
+
+            Integer saved = Flux.fromIterable(missing)
+                    .flatMap(chainId -> webClient.get()
+                            .uri("/evolution-chain/{id}", chainId)
+                            .retrieve()
+                            .bodyToMono(String.class)
+                            .map(json -> new EvolutionChain(chainId, json))
+                            .onErrorResume(e -> {
+                                prefetchFailures.incrementAndGet();
+                                logger.warn("진화 체인 {} 조회 실패: {}", chainId, e.getMessage());
+                                return Mono.empty();
+                            }), prefetchConcurrency)
+                    .buffer(SAVE_BATCH_SIZE)
+                    .concatMap(batch -> Mono.fromCallable(() -> saveBatch(batch))
+                            .subscribeOn(Schedulers.boundedElastic()))
+                    .reduce(0, Integer::sum)
+                    .block();
+
+            int updated = pokemonBatchRepository.updateEvolutionChainIds(chainIdsBySpeciesId);
+            prefetchCompleted = true;
+            logger.info("진화 체인 사전 적재 완료: 신규 {}개, 포켓몬 진화체인 ID 갱신 {}건 ({}ms)",
+                    saved, updated, System.currentTimeMillis() - start);
+            return saved != null ? saved : 0;
+        } catch (Exception e) {
+            logger.error("진화 체인 사전 적재 실패: {}", e.getMessage(), e);
+            return 0;
+        } finally {
+            prefetching.set(false);
+        }
+    }
+
+    /**
+     * 전체 진화 체인 사전 적재가 끝났는지 확인 (끝나기 전에는 색인에 없는 species가 있을 수 있음)
+     */
+    public boolean isPrefetchCompleted() {
+        return prefetchCompleted;
+    }
+
+    /**
+     * 저장소 상태 (모니터링용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("chains", chains.size());
+        stats.put("species", chainIdsBySpeciesId.size());
+        stats.put("prefetching", prefetching.get());
+        stats.put("prefetchCompleted", prefetchCompleted);
+        stats.put("prefetchedChains", prefetchedChains.get());
+        stats.put("prefetchFailures", prefetchFailures.get());
+        return stats;
+    }
+
+    private int saveBatch(List<EvolutionChain> batch) {
+        List<EvolutionChain> parsed = new ArrayList<>(batch.size());
+        Map<Integer, EvolutionDTO> dtos = new LinkedHashMap<>();
+        for (EvolutionChain chain : batch) {
+            try {
+                dtos.put(chain.getId(), objectMapper.readValue(chain.getChainData(), EvolutionDTO.class));
+                parsed.add(chain);
+            } catch (Exception e) {
+                prefetchFailures.incrementAndGet();
+                logger.warn("진화 체인 {} 파싱 실패: {}", chain.getId(), e.getMessage());
+            }
+        }
+        evolutionChainRepository.saveAll(parsed);
+        dtos.forEach(this::index);
+        prefetchedChains.addAndGet(parsed.size());
+        return parsed.size();
+    }
+
+    private List<Integer> fetchChainIds() throws Exception {
+        String response = webClient.get()
+                .uri("/evolution-chain?limit={limit}&offset=0", CHAIN_LIST_LIMIT)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(Duration.ofSeconds(10))
+                .block();
+        List<Integer> ids = new ArrayList<>();
+        if (response == null) {
+            return ids;
+        }
+        JsonNode results = objectMapper.readTree(response).get("results");
+        if (results != null && results.isArray()) {
+            for (JsonNode result : results) {
+                Integer id = idFromUrl(result.path("url").asText(null));
+                if (id != null) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void index(Integer chainId, EvolutionDTO chain) {
+        if (chainId == null || chain == null) {
+            return;
+        }
+        chains.put(chainId, chain);
+        indexSpecies(chainId, chain.getChain());
+    }
+
+    private void indexSpecies(Integer chainId, ChainDTO link) {
+        if (link == null) {
+            return;
+        }
+        if (link.getSpecies() != null) {
+            registerSpecies(idFromUrl(link.getSpecies().getUrl()), link.getSpecies().getName(), chainId);
+        }
+        if (link.getEvolvesTo() != null) {
+            for (ChainDTO next : link.getEvolvesTo()) {
+                indexSpecies(chainId, next);
+            }
+        }
+    }
+
+    /**
+     * PokeAPI 리소스 URL 끝의 ID 추출 (예: .../pokemon-species/25/ → 25)
+     */
+    static Integer idFromUrl(String url) {
+        if (url == null) {
+            return null;
+        }
+        String[] parts = url.split("/");
+        for (int i = parts.length - 1; i >= 0; i--) {
+            if (!parts[i].isEmpty()) {
+                try {
+                    return Integer.parseInt(parts[i]);
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+}
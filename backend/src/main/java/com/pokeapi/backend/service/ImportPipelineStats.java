@@ -0,0 +1,96 @@
+package com.pokeapi.backend.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대량 적재 파이프라인 단계별 처리량 집계 (fetch → parse → persist)
+ *
+ * 단계마다 처리/실패 건수와 마지막 처리 시각을 기록하고,
+ * 파이프라인 시작 시각 기준 초당 처리량을 계산한다.
+ */
+public final class ImportPipelineStats {
+
+    private final long startNanos = System.nanoTime();
+
+    private final Stage fetch = new Stage();
+    private final Stage parse = new Stage();
+    private final Stage persist = new Stage();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicInteger lastPokemonId = new AtomicInteger();
+
+    public Stage fetch() { return fetch; }
+    public Stage parse() { return parse; }
+    public Stage persist() { return persist; }
+
+    /**
+     * 이미 DB에 있어서 건너뛴 건수 추가
+     */
+    public void skipped(long count) {
+        skipped.addAndGet(count);
+    }
+
+    public long getSkipped() { return skipped.get(); }
+
+    /**
+     * 저장 단계까지 도달한 가장 큰 PokeAPI ID 기록
+     */
+    public void recordPokemonId(int pokemonId) {
+        lastPokemonId.accumulateAndGet(pokemonId, Math::max);
+    }
+
+    /**
+     * 저장 단계까지 도달한 가장 큰 PokeAPI ID (없으면 null)
+     */
+    public Integer getLastPokemonId() {
+        int id = lastPokemonId.get();
+        return id > 0 ? id : null;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("fetch", fetch.toMap(startNanos));
+        stats.put("parse", parse.toMap(startNanos));
+        stats.put("persist", persist.toMap(startNanos));
+        stats.put("skipped", skipped.get());
+        stats.put("elapsedMillis", (System.nanoTime() - startNanos) / 1_000_000);
+        return stats;
+    }
+
+    /**
+     * 단계별 카운터
+     */
+    public static final class Stage {
+
+        private final AtomicLong succeeded = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private volatile long lastNanos;
+
+        public void succeeded(long count) {
+            succeeded.addAndGet(count);
+            lastNanos = System.nanoTime();
+        }
+
+        public void failed() {
+            failed.incrementAndGet();
+            lastNanos = System.nanoTime();
+        }
+
+        public long getSucceeded() { return succeeded.get(); }
+        public long getFailed() { return failed.get(); }
+
+        private Map<String, Object> toMap(long startNanos) {
+            long count = succeeded.get();
+            long elapsedNanos = lastNanos > startNanos ? lastNanos - startNanos : 0;
+            Map<String, Object> stage = new LinkedHashMap<>();
+            stage.put("succeeded", count);
+            stage.put("failed", failed.get());
+            stage.put("perSecond", elapsedNanos > 0
+                    ? Math.round(count * 1_000_000_000.0 / elapsedNanos * 10) / 10.0
+                    : 0.0);
+            return stage;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.pokeapi.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * JSON TEXT 컬럼 → jsonb 마이그레이션 (pokemon.types / korean_types / abilities, world_cup_results.conditions)
+ *
+ * ddl-auto=update는 기존 컬럼 타입을 바꾸지 않으므로 아직 text인 컬럼만 jsonb로 바꾼다.
+ * 타입 변경은 테이블을 다시 쓰지만 두 테이블 모두 수천 행 이하라 잠금이 짧다.
+ * 이어서 @> 포함 검색용 GIN 인덱스를 CONCURRENTLY로 만든다.
+ * pokemon_type 백필(SYNC_TYPES)이 jsonb 함수를 쓰므로 그보다 먼저 실행한다.
+ * pokemon 컬럼을 바꿨으면 (배열이 아닌 값은 NULL이 됨) 카탈로그 버전을 올린다.
+ */
+@Component
+public class JsonbColumnMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonbColumnMigration.class);
+
+    private static final String COLUMN_TYPE =
+            "SELECT data_type FROM information_schema.columns WHERE table_name = ? AND column_name = ?";
+
+    // {테이블, 컬럼, USING 식} (JSON 배열/객체가 아닌 값은 NULL로 바꿈, conditions는 NOT NULL이라 그대로 캐스팅)
+    private static final String[][] JSONB_COLUMNS = {
+            {"pokemon", "types", "CASE WHEN types ~ '^\\s*\\[' THEN types::jsonb END"},
+            {"pokemon", "korean_types", "CASE WHEN korean_types ~ '^\\s*\\[' THEN korean_types::jsonb END"},
+            {"pokemon", "abilities", "CASE WHEN abilities ~ '^\\s*\\[' THEN abilities::jsonb END"},
+            {"world_cup_results", "conditions", "conditions::jsonb"}
+    };
+
+    // 예전에 문자열("1")로 저장된 세대를 숫자로 맞춤 (조회는 {"generation": 1} 포함 검색)
+    private static final String NORMALIZE_GENERATION =
+            "UPDATE world_cup_results "
+            + "SET conditions = jsonb_set(conditions, '{generation}', to_jsonb((conditions ->> 'generation')::int)) "
+            + "WHERE jsonb_typeof(conditions -> 'generation') = 'string' "
+            + "AND conditions ->> 'generation' ~ '^[0-9]{1,9}$'";
+
+    // @> 포함 검색용 GIN 인덱스 (jsonb_path_ops: @>만 지원하지만 인덱스가 작고 빠름)
+    private static final String[] GIN_INDEXES = {
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_pokemon_types_gin ON pokemon USING GIN (types jsonb_path_ops)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_pokemon_korean_types_gin ON pokemon USING GIN (korean_types jsonb_path_ops)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_pokemon_abilities_gin ON pokemon USING GIN (abilities jsonb_path_ops)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_world_cup_results_conditions_gin "
+                    + "ON world_cup_results USING GIN (conditions jsonb_path_ops)"
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PokemonCatalog pokemonCatalog;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 2)
+    public void migrateOnStartup() {
+        boolean pokemonChanged = false;
+        for (String[] column : JSONB_COLUMNS) {
+            try {
+                if (convertToJsonb(column[0], column[1], column[2]) && "pokemon".equals(column[0])) {
+                    pokemonChanged = true;
+                }
+            } catch (Exception e) {
+                logger.error("jsonb 컬럼 변환 실패: {}.{} ({})", column[0], column[1], e.getMessage(), e);
+            }
+        }
+        if (pokemonChanged) {
+            pokemonCatalog.refreshIfLoaded();
+        }
+
+        try {
+            int normalized = jdbcTemplate.update(NORMALIZE_GENERATION);
+            if (normalized > 0) {
+                logger.info("월드컵 조건 세대 값 정리: {}건", normalized);
+            }
+        } catch (Exception e) {
+            logger.warn("월드컵 조건 세대 값 정리 실패: {}", e.getMessage());
+        }
+
+        for (String ddl : GIN_INDEXES) {
+            try {
+                jdbcTemplate.execute(ddl);
+            } catch (Exception e) {
+                logger.warn("GIN 인덱스 생성 실패: {} ({})", ddl, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 컬럼이 아직 jsonb가 아니면 타입 변경 (이미 jsonb거나 컬럼이 없으면 건너뜀)
+     *
+     * @return 타입을 바꿨으면 true
+     */
+    private boolean convertToJsonb(String table, String column, String using) {
+        String dataType = jdbcTemplate.query(COLUMN_TYPE,
+                rs -> rs.next() ? rs.getString(1) : null, table, column);
+        if (dataType == null || "jsonb".equals(dataType)) {
+            return false;
+        }
+        long start = System.currentTimeMillis();
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " TYPE jsonb USING " + using);
+        logger.info("jsonb 컬럼 변환 완료: {}.{} ({} → jsonb, {}ms)",
+                table, column, dataType, System.currentTimeMillis() - start);
+        return true;
+    }
+}
@@ -0,0 +1,80 @@
+package com.pokeapi.backend.service;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 포켓몬 이름용 Bloom 필터
+ *
+ * mightContain이 false면 확실히 없는 이름이고, true면 (낮은 오탐 확률로) 있을 수 있는 이름이다.
+ * 해시는 이름의 UTF-8 바이트에 대한 64비트 FNV-1a 값을 둘로 나눠 이중 해싱으로 k개 위치를 만든다.
+ */
+public final class NameBloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+    private int insertions;
+
+    /**
+     * @param expectedInsertions 예상 이름 수
+     * @param falsePositiveRate  목표 오탐률 (예: 0.001)
+     */
+    public NameBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.max(64, Math.min(m, Integer.MAX_VALUE - 63));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.bits = new long[(bitCount + 63) >>> 6];
+    }
+
+    public synchronized void put(String name) {
+        long hash = hash(name);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+            bits[index >>> 6] |= 1L << index;
+        }
+        insertions++;
+    }
+
+    public synchronized boolean mightContain(String name) {
+        long hash = hash(name);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getBitCount() { return bitCount; }
+    public int getHashCount() { return hashCount; }
+    public synchronized int getInsertions() { return insertions; }
+
+    /**
+     * 현재 채워진 비트 비율로 추정한 오탐률
+     */
+    public synchronized double estimatedFalsePositiveRate() {
+        int set = 0;
+        for (long word : bits) {
+            set += Long.bitCount(word);
+        }
+        return Math.pow((double) set / bitCount, hashCount);
+    }
+
+    private static long hash(String name) {
+        long hash = FNV_OFFSET;
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
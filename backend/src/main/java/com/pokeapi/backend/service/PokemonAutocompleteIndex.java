@@ -0,0 +1,128 @@
+package com.pokeapi.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 자동완성용 접두어 색인
+ *
+ * 영문 이름(소문자), 한글 이름, 한글 이름의 초성 열("피카츄" → "ㅍㅋㅊ")을 하나의 정렬된 키 배열로 보관한다.
+ * 정렬된 배열 위의 이진 탐색이 트라이의 접두어 탐색과 같은 역할을 하며,
+ * 접두어로 시작하는 키는 배열에서 연속 구간을 이루므로 구간 시작점부터 limit개만 읽으면 된다.
+ */
+public final class PokemonAutocompleteIndex {
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private final String[] keys;
+    private final int[] ordinals;
+
+    public PokemonAutocompleteIndex(List<CatalogPokemon> entries) {
+        List<Key> building = new ArrayList<>(entries.size() * 3);
+        for (int ordinal = 0; ordinal < entries.size(); ordinal++) {
+            CatalogPokemon pokemon = entries.get(ordinal);
+            if (pokemon.getName() != null) {
+                building.add(new Key(normalize(pokemon.getName()), ordinal));
+            }
+            if (pokemon.getKoreanName() != null) {
+                String korean = normalize(pokemon.getKoreanName());
+                building.add(new Key(korean, ordinal));
+                String choseong = toChoseong(korean);
+                if (!choseong.equals(korean)) {
+                    building.add(new Key(choseong, ordinal));
+                }
+            }
+        }
+        // 키 순, 같은 키면 ordinal(pokemonId) 순
+        building.sort((a, b) -> {
+            int compare = a.text.compareTo(b.text);
+            return compare != 0 ? compare : Integer.compare(a.ordinal, b.ordinal);
+        });
+
+        this.keys = new String[building.size()];
+        this.ordinals = new int[building.size()];
+        for (int i = 0; i < building.size(); i++) {
+            keys[i] = building.get(i).text;
+            ordinals[i] = building.get(i).ordinal;
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 포켓몬 ordinal 목록 (키 사전순, 중복 제외, 최대 limit개)
+     */
+    public int[] complete(String prefix, int limit) {
+        String query = normalize(prefix);
+        if (query == null || query.isEmpty() || limit <= 0) {
+            return new int[0];
+        }
+
+        int[] result = new int[limit];
+        int count = 0;
+        for (int i = lowerBound(query); i < keys.length && count < limit && keys[i].startsWith(query); i++) {
+            if (!contains(result, count, ordinals[i])) {
+                result[count++] = ordinals[i];
+            }
+        }
+        return count == limit ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 한글 음절을 초성으로 변환 (음절이 아닌 글자는 그대로)
+     */
+    static String toChoseong(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            char c = chars[i];
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                chars[i] = CHOSEONG[(c - HANGUL_BASE) / SYLLABLES_PER_CHOSEONG];
+            }
+        }
+        return new String(chars);
+    }
+
+    private int lowerBound(String query) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(query) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // limit이 작으므로 선형 탐색으로 중복 확인 (추가 할당 없음)
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String normalize(String text) {
+        return text != null ? text.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static final class Key {
+        private final String text;
+        private final int ordinal;
+
+        private Key(String text, int ordinal) {
+            this.text = text;
+            this.ordinal = ordinal;
+        }
+    }
+}
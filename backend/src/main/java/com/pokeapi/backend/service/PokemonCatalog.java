@@ -0,0 +1,188 @@
+package com.pokeapi.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokeapi.backend.dto.PokemonDTO;
+import com.pokeapi.backend.entity.Pokemon;
+import com.pokeapi.backend.repository.PokemonRepository;
+
+/**
+ * 메모리 상주 포켓몬 카탈로그
+ *
+ * 조회 API는 DB 대신 이 카탈로그의 스냅샷을 사용한다.
+ * 스냅샷은 불변이며, 저장/초기화가 일어나면 새 스냅샷을 만들어 volatile 참조를 교체한다.
+ * 읽기 쪽은 락 없이 현재 스냅샷을 가져다 쓰고, 쓰기 쪽만 synchronized로 직렬화한다.
+ */
+@Component
+public class PokemonCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(PokemonCatalog.class);
+
+    @Autowired
+    private PokemonRepository pokemonRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // 재시작 후에도 이전 버전보다 커지도록 시작 시각(ms)부터 증가
+    private final AtomicLong versionSequence = new AtomicLong(System.currentTimeMillis());
+
+    private volatile CatalogSnapshot snapshot = CatalogSnapshot.empty();
+    private volatile boolean loaded = false;
+
+    /**
+     * 애플리케이션 시작 완료 후 카탈로그 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            reload();
+        } catch (Exception e) {
+            logger.error("포켓몬 카탈로그 초기 적재 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 현재 스냅샷 조회 (아직 적재 전이면 DB에서 한 번 적재)
+     */
+    public CatalogSnapshot current() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 현재 카탈로그 버전
+     */
+    public long getVersion() {
+        return current().getVersion();
+    }
+
+    /**
+     * DB 전체를 다시 읽어서 스냅샷 재구성 (초기화/대량 적재 후 호출)
+     */
+    public synchronized CatalogSnapshot reload() {
+        long start = System.currentTimeMillis();
+        List<Pokemon> pokemons = pokemonRepository.findAll();
+
+        List<CatalogPokemon> entries = new ArrayList<>(pokemons.size());
+        for (Pokemon pokemon : pokemons) {
+            entries.add(toCatalogPokemon(pokemon));
+        }
+
+        CatalogSnapshot rebuilt = new CatalogSnapshot(versionSequence.incrementAndGet(), entries);
+        snapshot = rebuilt;
+        loaded = true;
+
+        logger.info("포켓몬 카탈로그 적재 완료: {}마리, 버전={}, {}ms",
+                rebuilt.size(), rebuilt.getVersion(), System.currentTimeMillis() - start);
+        return rebuilt;
+    }
+
+    /**
+     * DB 행이 카탈로그 밖에서 바뀐 뒤 호출 (시작 시 마이그레이션 등)
+     * 이미 적재된 스냅샷이 있으면 다시 읽어서 버전을 올린다. 아직 적재 전이면 처음 적재할 때 새 버전이 붙는다.
+     */
+    public synchronized void refreshIfLoaded() {
+        if (loaded) {
+            reload();
+        }
+    }
+
+    /**
+     * 저장된 포켓몬을 카탈로그에 반영 (copy-on-write)
+     */
+    public void publish(Pokemon pokemon) {
+        publish(Collections.singletonList(pokemon));
+    }
+
+    /**
+     * 저장된 포켓몬 여러 마리를 한 번에 카탈로그에 반영
+     */
+    public synchronized void publish(List<Pokemon> pokemons) {
+        if (pokemons == null || pokemons.isEmpty()) {
+            return;
+        }
+        if (!loaded) {
+            // 아직 적재 전이면 DB 기준으로 한 번에 구성
+            reload();
+            return;
+        }
+
+        List<CatalogPokemon> entries = new ArrayList<>(snapshot.getEntries());
+        for (Pokemon pokemon : pokemons) {
+            CatalogPokemon added = toCatalogPokemon(pokemon);
+            entries.removeIf(existing -> sameIdentity(existing, added));
+            entries.add(added);
+        }
+
+        CatalogSnapshot rebuilt = new CatalogSnapshot(versionSequence.incrementAndGet(), entries);
+        snapshot = rebuilt;
+        logger.debug("포켓몬 카탈로그 갱신: {}마리 반영, 총 {}마리, 버전={}",
+                pokemons.size(), rebuilt.size(), rebuilt.getVersion());
+    }
+
+    private boolean sameIdentity(CatalogPokemon existing, CatalogPokemon added) {
+        if (existing.getPokemonId() != null && added.getPokemonId() != null) {
+            return existing.getPokemonId().equals(added.getPokemonId());
+        }
+        return Objects.equals(existing.getName(), added.getName());
+    }
+
+    /**
+     * Entity → 카탈로그 레코드 변환 (JSON 컬럼은 여기서 한 번만 파싱)
+     */
+    private CatalogPokemon toCatalogPokemon(Pokemon entity) {
+        List<CatalogPokemon.Stat> stats = new ArrayList<>();
+        for (PokemonDTO.StatDTO stat : PokemonStatMapping.toStats(entity)) {
+            stats.add(new CatalogPokemon.Stat(stat.getName(), stat.getBaseStat(), stat.getEffort()));
+        }
+
+        return new CatalogPokemon(
+                entity.getId(),
+                entity.getPokemonId(),
+                entity.getName(),
+                entity.getKoreanName(),
+                entity.getBaseExperience(),
+                entity.getHeight(),
+                entity.getWeight(),
+                entity.getSpriteUrl(),
+                entity.getShinySpriteUrl(),
+                entity.getOfficialArtworkUrl(),
+                parseStringList(entity.getTypes()),
+                parseStringList(entity.getKoreanTypes()),
+                stats,
+                entity.getDescription(),
+                parseStringList(entity.getAbilities()),
+                entity.getGeneration());
+    }
+
+    private List<String> parseStringList(String json) {
+        if (json == null || json.isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            return objectMapper.readValue(json,
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, String.class));
+        } catch (Exception e) {
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.pokeapi.backend.service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.pokeapi.backend.dto.PokemonDTO;
+import com.pokeapi.backend.repository.PokemonSummary;
+
+/**
+ * 목록 API의 fields= 파라미터 (응답에 포함할 PokemonDTO 필드 선택)
+ *
+ * 예: fields=pokemonId,koreanName,spriteUrl / fields=summary
+ * 요약 필드만 요청하면 DB 조회도 요약 프로젝션(PokemonSummary)으로 필요한 컬럼만 읽는다.
+ */
+public final class PokemonFieldSet {
+
+    public static final List<String> ALL_FIELDS = Collections.unmodifiableList(Arrays.asList(
+            "pokemonId", "name", "koreanName", "baseExperience", "height", "weight",
+            "spriteUrl", "shinySpriteUrl", "officialArtworkUrl", "types", "koreanTypes",
+            "stats", "description", "abilities", "generation"));
+
+    // PokemonSummary 프로젝션으로 채울 수 있는 필드
+    public static final List<String> SUMMARY_FIELDS = Collections.unmodifiableList(Arrays.asList(
+            "pokemonId", "name", "koreanName", "types", "koreanTypes", "spriteUrl", "generation"));
+
+    private final Set<String> fields;
+
+    private PokemonFieldSet(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * fields 파라미터 해석 (비어 있으면 null = 전체 필드, 알 수 없는 필드는 IllegalArgumentException)
+     */
+    public static PokemonFieldSet parse(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        Set<String> fields = new LinkedHashSet<>();
+        for (String token : value.split(",")) {
+            String field = token.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            if ("summary".equals(field)) {
+                fields.addAll(SUMMARY_FIELDS);
+            } else if ("id".equals(field)) {
+                fields.add("pokemonId");
+            } else if (ALL_FIELDS.contains(field)) {
+                fields.add(field);
+            } else {
+                throw new IllegalArgumentException("알 수 없는 필드입니다: " + field);
+            }
+        }
+        if (fields.isEmpty()) {
+            return null;
+        }
+        return new PokemonFieldSet(Collections.unmodifiableSet(fields));
+    }
+
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * 요약 프로젝션만으로 채울 수 있는지 여부
+     */
+    public boolean isSummaryOnly() {
+        return SUMMARY_FIELDS.containsAll(fields);
+    }
+
+    /**
+     * 카탈로그 레코드에서 선택한 필드만 추출
+     */
+    public Map<String, Object> project(CatalogPokemon pokemon) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        for (String field : fields) {
+            switch (field) {
+                case "stats":
+                    // 능력치는 요청했을 때만 DTO 형태로 변환
+                    view.put(field, pokemon.toDTO().getStats());
+                    break;
+                default:
+                    view.put(field, catalogValue(pokemon, field));
+            }
+        }
+        return view;
+    }
+
+    /**
+     * DTO에서 선택한 필드만 추출
+     */
+    public Map<String, Object> project(PokemonDTO pokemon) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        for (String field : fields) {
+            view.put(field, dtoValue(pokemon, field));
+        }
+        return view;
+    }
+
+    /**
+     * 요약 프로젝션에서 선택한 필드만 추출 (JSON 컬럼은 jsonToList로 변환)
+     */
+    public Map<String, Object> project(PokemonSummary pokemon, Function<String, List<String>> jsonToList) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        for (String field : fields) {
+            switch (field) {
+                case "pokemonId": view.put(field, pokemon.getPokemonId()); break;
+                case "name": view.put(field, pokemon.getName()); break;
+                case "koreanName": view.put(field, pokemon.getKoreanName()); break;
+                case "spriteUrl": view.put(field, pokemon.getSpriteUrl()); break;
+                case "types": view.put(field, jsonToList.apply(pokemon.getTypes())); break;
+                case "koreanTypes": view.put(field, jsonToList.apply(pokemon.getKoreanTypes())); break;
+                case "generation": view.put(field, pokemon.getGeneration()); break;
+                default: throw new IllegalStateException("요약 프로젝션에 없는 필드: " + field);
+            }
+        }
+        return view;
+    }
+
+    private static Object catalogValue(CatalogPokemon pokemon, String field) {
+        switch (field) {
+            case "pokemonId": return pokemon.getPokemonId();
+            case "name": return pokemon.getName();
+            case "koreanName": return pokemon.getKoreanName();
+            case "baseExperience": return pokemon.getBaseExperience();
+            case "height": return pokemon.getHeight();
+            case "weight": return pokemon.getWeight();
+            case "spriteUrl": return pokemon.getSpriteUrl();
+            case "shinySpriteUrl": return pokemon.getShinySpriteUrl();
+            case "officialArtworkUrl": return pokemon.getOfficialArtworkUrl();
+            case "types": return pokemon.getTypes();
+            case "koreanTypes": return pokemon.getKoreanTypes();
+            case "description": return pokemon.getDescription();
+            case "abilities": return pokemon.getAbilities();
+            case "generation": return pokemon.getGeneration();
+            default: return null;
+        }
+    }
+
+    private static Object dtoValue(PokemonDTO pokemon, String field) {
+        switch (field) {
+            case "pokemonId": return pokemon.getPokemonId();
+            case "name": return pokemon.getName();
+            case "koreanName": return pokemon.getKoreanName();
+            case "baseExperience": return pokemon.getBaseExperience();
+            case "height": return pokemon.getHeight();
+            case "weight": return pokemon.getWeight();
+            case "spriteUrl": return pokemon.getSpriteUrl();
+            case "shinySpriteUrl": return pokemon.getShinySpriteUrl();
+            case "officialArtworkUrl": return pokemon.getOfficialArtworkUrl();
+            case "types": return pokemon.getTypes();
+            case "koreanTypes": return pokemon.getKoreanTypes();
+            case "stats": return pokemon.getStats();
+            case "description": return pokemon.getDescription();
+            case "abilities": return pokemon.getAbilities();
+            case "generation": return pokemon.getGeneration();
+            default: return null;
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.pokeapi.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokeapi.backend.entity.ImportJob;
+import com.pokeapi.backend.repository.ImportJobRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 포켓몬 대량 적재 작업 관리 (백그라운드 실행 + 체크포인트 + 재시작 시 이어서 실행)
+ *
+ * 작업은 목록을 chunkSize개씩 나눠서 처리하고, 한 묶음이 끝날 때마다
+ * 다음 위치(currentOffset), 마지막 PokeAPI ID, 오류, 묶음별 처리량을 DB에 저장한다.
+ * 저장은 pokemon_id 기준으로 중복을 무시하므로, 중간에 끊긴 묶음은 처음부터 다시 처리해도 안전하다.
+ * 작업은 한 번에 하나씩 순서대로 실행한다. (PokeAPI 요청 예산을 작업끼리 나눠 쓰지 않도록)
+ */
+@Service
+public class PokemonImportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PokemonImportJobService.class);
+
+    public static final String PENDING = "PENDING";
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+    public static final String CANCELLED = "CANCELLED";
+
+    // 작업에 보관할 최근 오류/묶음 통계 수 (TEXT 컬럼이 끝없이 커지지 않도록)
+    private static final int MAX_STORED_ERRORS = 100;
+    private static final int MAX_STORED_BATCHES = 200;
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private PokemonService pokemonService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${pokemon.import.job-chunk-size:100}")
+    private int chunkSize;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "pokemon-import-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 재시작 전에 끝나지 않은 작업을 체크포인트부터 이어서 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        try {
+            for (ImportJob job : importJobRepository.findByStatusInOrderByIdAsc(Arrays.asList(PENDING, RUNNING))) {
+                logger.info("미완료 적재 작업 재개: jobId={}, offset={}", job.getId(), job.getCurrentOffset());
+                job.setStatus(PENDING);
+                importJobRepository.save(job);
+                submit(job.getId());
+            }
+        } catch (Exception e) {
+            logger.error("미완료 적재 작업 재개 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중 묶음은 다음 시작 때 체크포인트부터 다시 처리됨
+        executor.shutdownNow();
+    }
+
+    /**
+     * 적재 작업 생성 후 백그라운드 실행
+     */
+    public Map<String, Object> startJob(int limit, int offset) {
+        LocalDateTime now = LocalDateTime.now();
+        ImportJob job = new ImportJob();
+        job.setStatus(PENDING);
+        job.setRequestLimit(limit);
+        job.setStartOffset(offset);
+        job.setCurrentOffset(offset);
+        job.setEndOffset(offset + limit);
+        job.setErrors("[]");
+        job.setBatchStats("[]");
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+        ImportJob saved = importJobRepository.save(job);
+
+        logger.info("적재 작업 생성: jobId={}, limit={}, offset={}", saved.getId(), limit, offset);
+        submit(saved.getId());
+        return toProgress(saved);
+    }
+
+    /**
+     * 작업 진행 상황 조회
+     */
+    public Optional<Map<String, Object>> getProgress(Long jobId) {
+        return importJobRepository.findById(jobId).map(this::toProgress);
+    }
+
+    /**
+     * 작업 취소 요청 (진행 중이면 현재 묶음이 끝난 뒤 멈춤)
+     */
+    public Optional<Map<String, Object>> cancelJob(Long jobId) {
+        // 행 전체를 다시 저장하면 실행 스레드의 체크포인트와 서로 덮어쓰므로 컬럼 단위 UPDATE만 사용
+        LocalDateTime now = LocalDateTime.now();
+        if (importJobRepository.requestCancel(jobId, now) > 0) {
+            importJobRepository.cancelIfPending(jobId, now);
+            logger.info("적재 작업 취소 요청: jobId={}", jobId);
+        }
+        return importJobRepository.findById(jobId).map(this::toProgress);
+    }
+
+    private void submit(Long jobId) {
+        executor.submit(() -> {
+            try {
+                runJob(jobId);
+            } catch (Exception e) {
+                logger.error("적재 작업 실행 중 오류: jobId={}, 오류: {}", jobId, e.getMessage(), e);
+                markFailed(jobId, e);
+            }
+        });
+    }
+
+    /**
+     * 작업 실행 (묶음마다 체크포인트 저장)
+     */
+    private void runJob(Long jobId) {
+        ImportJob job = importJobRepository.findById(jobId).orElse(null);
+        if (job == null || !(PENDING.equals(job.getStatus()) || RUNNING.equals(job.getStatus()))) {
+            return;
+        }
+        job.setStatus(RUNNING);
+        job.setUpdatedAt(LocalDateTime.now());
+        job = importJobRepository.save(job);
+
+        List<String> storedErrors = readList(job.getErrors());
+        List<Object> storedBatches = new ArrayList<>(readList(job.getBatchStats()));
+        boolean insertedAny = false;
+
+        while (job.getCurrentOffset() < job.getEndOffset()) {
+            // 취소 여부는 DB 기준으로 확인 (다른 요청 스레드에서 기록)
+            if (isCancelRequested(jobId)) {
+                job = reload(jobId);
+                job.setStatus(CANCELLED);
+                job.setFinishedAt(LocalDateTime.now());
+                job.setUpdatedAt(LocalDateTime.now());
+                importJobRepository.save(job);
+                logger.info("적재 작업 취소됨: jobId={}, offset={}", jobId, job.getCurrentOffset());
+                reloadCatalogIf(insertedAny);
+                return;
+            }
+
+            int offset = job.getCurrentOffset();
+            int size = Math.min(chunkSize, job.getEndOffset() - offset);
+            long start = System.nanoTime();
+
+            List<String> names = pokemonService.fetchPokemonNames(size, offset);
+            List<String> errors = Collections.synchronizedList(new ArrayList<>());
+            ImportPipelineStats stats = new ImportPipelineStats();
+            pokemonService.importPokemons(names, stats, errors);
+
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            long inserted = stats.persist().getSucceeded();
+            insertedAny |= inserted > 0;
+
+            // 체크포인트 저장
+            job = reload(jobId);
+            job.setCurrentOffset(offset + names.size());
+            if (names.size() < size) {
+                job.setEndOffset(offset + names.size()); // 목록 끝에 도달
+            }
+            if (stats.getLastPokemonId() != null) {
+                job.setLastPokemonId(stats.getLastPokemonId());
+            }
+            job.setInsertedCount(job.getInsertedCount() + (int) inserted);
+            job.setSkippedCount(job.getSkippedCount() + (int) stats.getSkipped());
+            job.setErrorCount(job.getErrorCount() + errors.size());
+
+            storedErrors.addAll(errors);
+            storedErrors = tail(storedErrors, MAX_STORED_ERRORS);
+            job.setErrors(writeList(storedErrors));
+
+            Map<String, Object> batch = new LinkedHashMap<>();
+            batch.put("offset", offset);
+            batch.put("count", names.size());
+            batch.put("inserted", inserted);
+            batch.put("skipped", stats.getSkipped());
+            batch.put("errors", errors.size());
+            batch.put("elapsedMillis", elapsedMillis);
+            batch.put("perSecond", elapsedMillis > 0 ? Math.round(names.size() * 10000.0 / elapsedMillis) / 10.0 : 0.0);
+            batch.put("stages", stats.toMap());
+            storedBatches.add(batch);
+            storedBatches = tail(storedBatches, MAX_STORED_BATCHES);
+            job.setBatchStats(writeList(storedBatches));
+
+            job.setUpdatedAt(LocalDateTime.now());
+            job = importJobRepository.save(job);
+            logger.info("적재 작업 진행: jobId={}, offset={}/{}, 추가={}, {}ms",
+                    jobId, job.getCurrentOffset(), job.getEndOffset(), inserted, elapsedMillis);
+
+            if (names.isEmpty()) {
+                break;
+            }
+        }
+
+        job = reload(jobId);
+        job.setStatus(COMPLETED);
+        job.setFinishedAt(LocalDateTime.now());
+        job.setUpdatedAt(LocalDateTime.now());
+        importJobRepository.save(job);
+        logger.info("적재 작업 완료: jobId={}, 추가={}, 건너뜀={}, 오류={}",
+                jobId, job.getInsertedCount(), job.getSkippedCount(), job.getErrorCount());
+        reloadCatalogIf(insertedAny);
+    }
+
+    private void markFailed(Long jobId, Exception e) {
+        try {
+            ImportJob job = reload(jobId);
+            List<String> errors = readList(job.getErrors());
+            errors.add("작업 중단: " + e.getMessage());
+            job.setErrors(writeList(tail(errors, MAX_STORED_ERRORS)));
+            job.setErrorCount(job.getErrorCount() + 1);
+            job.setStatus(FAILED);
+            job.setFinishedAt(LocalDateTime.now());
+            job.setUpdatedAt(LocalDateTime.now());
+            importJobRepository.save(job);
+            pokemonService.reloadCatalog();
+        } catch (Exception saveError) {
+            logger.error("적재 작업 실패 상태 저장 실패: jobId={}, 오류: {}", jobId, saveError.getMessage());
+        }
+    }
+
+    private boolean isCancelRequested(Long jobId) {
+        return Boolean.TRUE.equals(reload(jobId).getCancelRequested());
+    }
+
+    private ImportJob reload(Long jobId) {
+        return importJobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("적재 작업을 찾을 수 없습니다: " + jobId));
+    }
+
+    private void reloadCatalogIf(boolean changed) {
+        if (changed) {
+            pokemonService.reloadCatalog();
+        }
+    }
+
+    /**
+     * 진행 상황 응답 (진행률, 처리 속도 포함)
+     */
+    private Map<String, Object> toProgress(ImportJob job) {
+        int total = Math.max(0, job.getEndOffset() - job.getStartOffset());
+        int done = Math.max(0, job.getCurrentOffset() - job.getStartOffset());
+
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("jobId", job.getId());
+        progress.put("status", job.getStatus());
+        progress.put("startOffset", job.getStartOffset());
+        progress.put("currentOffset", job.getCurrentOffset());
+        progress.put("endOffset", job.getEndOffset());
+        progress.put("lastPokemonId", job.getLastPokemonId());
+        progress.put("processed", done);
+        progress.put("total", total);
+        progress.put("percent", total > 0 ? Math.round(done * 1000.0 / total) / 10.0 : 100.0);
+        progress.put("insertedCount", job.getInsertedCount());
+        progress.put("skippedCount", job.getSkippedCount());
+        progress.put("errorCount", job.getErrorCount());
+        progress.put("cancelRequested", job.getCancelRequested());
+
+        // 처리 속도: 최근 묶음들의 처리 수 / 소요 시간
+        List<Object> batches = readList(job.getBatchStats());
+        long count = 0;
+        long millis = 0;
+        for (Object batch : batches) {
+            if (batch instanceof Map) {
+                Map<?, ?> stats = (Map<?, ?>) batch;
+                count += ((Number) stats.get("count")).longValue();
+                millis += ((Number) stats.get("elapsedMillis")).longValue();
+            }
+        }
+        progress.put("perSecond", millis > 0 ? Math.round(count * 10000.0 / millis) / 10.0 : 0.0);
+        progress.put("errors", readList(job.getErrors()));
+        progress.put("batches", batches);
+        progress.put("createdAt", job.getCreatedAt());
+        progress.put("updatedAt", job.getUpdatedAt());
+        progress.put("finishedAt", job.getFinishedAt());
+        return progress;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> readList(String json) {
+        if (json == null || json.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            return objectMapper.readValue(json, List.class);
+        } catch (Exception e) {
+            return new ArrayList<>();
+        }
+    }
+
+    private String writeList(List<?> list) {
+        try {
+            return objectMapper.writeValueAsString(list);
+        } catch (Exception e) {
+            return "[]";
+        }
+    }
+
+    private static <T> List<T> tail(List<T> list, int max) {
+        return list.size() <= max ? list : new ArrayList<>(list.subList(list.size() - max, list.size()));
+    }
+}
@@ -0,0 +1,241 @@
+package com.pokeapi.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 한글 이름 ↔ 영문 이름 ↔ PokeAPI ID 불변 사전
+ *
+ * 이름 시드(PokemonNameSeed)로 클래스 로딩 시 한 번 만들고, 시드에 없는 species는
+ * 백그라운드 보충(PokemonNameWarmup)이 extend로 더한 새 사전으로 통째로 교체한다.
+ * 이름별로 정렬된 배열과 그 순서에 맞는 행 번호 배열을 두고 이진 탐색하므로,
+ * 조회할 때 객체를 새로 만들지 않는다. 영문 이름은 대소문자를 구분하지 않는다.
+ */
+public final class PokemonNameDictionary {
+
+    private static final Comparator<String> ENGLISH_ORDER = String.CASE_INSENSITIVE_ORDER;
+
+    private static volatile Table current = new Table(PokemonNameSeed.entries());
+
+    // 전체 species 수 (시드 헤더 값, 보충 시 PokeAPI 목록 크기로 갱신)
+    private static volatile int speciesCount = PokemonNameSeed.speciesCount();
+
+    private PokemonNameDictionary() {
+    }
+
+    /**
+     * 수록된 포켓몬 수
+     */
+    public static int size() {
+        return current.pokemonIds.length;
+    }
+
+    /**
+     * 전체 species를 모두 수록했는지 확인 (전체 수를 모르면 false)
+     */
+    public static boolean isComplete() {
+        int total = speciesCount;
+        return total > 0 && size() >= total;
+    }
+
+    /**
+     * 전체 species 수 갱신
+     */
+    public static void setSpeciesCount(int count) {
+        speciesCount = count;
+    }
+
+    /**
+     * 수록된 항목 전체 (pokemonId 오름차순, 불변)
+     */
+    public static List<PokemonNameSeed.Entry> entries() {
+        return current.entries;
+    }
+
+    /**
+     * 사전에 없는 항목을 더한 새 사전으로 교체
+     *
+     * 이미 있는 ID나 이미 쓰인 한글/영문 이름과 겹치는 항목은 건너뛴다.
+     *
+     * @return 새로 추가된 항목 수
+     */
+    public static synchronized int extend(Collection<PokemonNameSeed.Entry> additions) {
+        Table table = current;
+        List<PokemonNameSeed.Entry> accepted = new ArrayList<>();
+        for (PokemonNameSeed.Entry entry : additions) {
+            if (Arrays.binarySearch(table.pokemonIds, entry.getPokemonId()) >= 0
+                    || table.rowOfKorean(entry.getKoreanName()) >= 0
+                    || table.rowOfEnglish(entry.getEnglishName()) >= 0
+                    || conflicts(accepted, entry)) {
+                continue;
+            }
+            accepted.add(entry);
+        }
+        if (accepted.isEmpty()) {
+            return 0;
+        }
+        List<PokemonNameSeed.Entry> merged = new ArrayList<>(table.entries);
+        merged.addAll(accepted);
+        merged.sort((a, b) -> Integer.compare(a.getPokemonId(), b.getPokemonId()));
+        current = new Table(merged);
+        return accepted.size();
+    }
+
+    /**
+     * 한글 이름 → 영문 이름 (없으면 null)
+     */
+    public static String englishNameOf(String koreanName) {
+        Table table = current;
+        int row = table.rowOfKorean(koreanName);
+        return row >= 0 ? table.englishNames[row] : null;
+    }
+
+    /**
+     * 영문 이름 → 한글 이름 (없으면 null)
+     */
+    public static String koreanNameOf(String englishName) {
+        Table table = current;
+        int row = table.rowOfEnglish(englishName);
+        return row >= 0 ? table.koreanNames[row] : null;
+    }
+
+    /**
+     * 한글 또는 영문 이름 → PokeAPI ID (없으면 null)
+     */
+    public static Integer pokemonIdOf(String name) {
+        Table table = current;
+        int row = table.rowOf(name);
+        return row >= 0 ? table.pokemonIds[row] : null;
+    }
+
+    /**
+     * 한글 또는 영문 이름 → 세대 (없으면 0)
+     */
+    public static int generationOf(String name) {
+        Table table = current;
+        int row = table.rowOf(name);
+        return row >= 0 ? table.generations[row] : 0;
+    }
+
+    /**
+     * PokeAPI ID → 영문 이름 (없으면 null)
+     */
+    public static String englishNameOf(int pokemonId) {
+        Table table = current;
+        int row = Arrays.binarySearch(table.pokemonIds, pokemonId);
+        return row >= 0 ? table.englishNames[row] : null;
+    }
+
+    /**
+     * PokeAPI ID → 한글 이름 (없으면 null)
+     */
+    public static String koreanNameOf(int pokemonId) {
+        Table table = current;
+        int row = Arrays.binarySearch(table.pokemonIds, pokemonId);
+        return row >= 0 ? table.koreanNames[row] : null;
+    }
+
+    /**
+     * 한글 또는 영문 이름이 사전에 있는지 확인
+     */
+    public static boolean contains(String name) {
+        return current.rowOf(name) >= 0;
+    }
+
+    private static boolean conflicts(List<PokemonNameSeed.Entry> accepted, PokemonNameSeed.Entry entry) {
+        for (PokemonNameSeed.Entry other : accepted) {
+            if (other.getPokemonId() == entry.getPokemonId()
+                    || other.getKoreanName().equals(entry.getKoreanName())
+                    || other.getEnglishName().equalsIgnoreCase(entry.getEnglishName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 한 시점의 사전 (만든 뒤에는 바꾸지 않음)
+     */
+    private static final class Table {
+
+        // 행 데이터 (pokemonId 오름차순)
+        private final List<PokemonNameSeed.Entry> entries;
+        private final int[] pokemonIds;
+        private final String[] englishNames;
+        private final String[] koreanNames;
+        private final int[] generations;
+
+        // 이름 정렬 키와 해당 행 번호
+        private final String[] koreanKeys;
+        private final int[] koreanRows;
+        private final String[] englishKeys;
+        private final int[] englishRows;
+
+        private Table(List<PokemonNameSeed.Entry> entries) {
+            int size = entries.size();
+            this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+
+            pokemonIds = new int[size];
+            englishNames = new String[size];
+            koreanNames = new String[size];
+            generations = new int[size];
+            for (int i = 0; i < size; i++) {
+                PokemonNameSeed.Entry entry = entries.get(i);
+                pokemonIds[i] = entry.getPokemonId();
+                englishNames[i] = entry.getEnglishName();
+                koreanNames[i] = entry.getKoreanName();
+                generations[i] = entry.getGeneration();
+            }
+
+            Integer[] byKorean = rowsSortedBy(koreanNames, Comparator.naturalOrder());
+            koreanKeys = new String[size];
+            koreanRows = new int[size];
+            for (int i = 0; i < size; i++) {
+                koreanRows[i] = byKorean[i];
+                koreanKeys[i] = koreanNames[byKorean[i]];
+            }
+
+            Integer[] byEnglish = rowsSortedBy(englishNames, ENGLISH_ORDER);
+            englishKeys = new String[size];
+            englishRows = new int[size];
+            for (int i = 0; i < size; i++) {
+                englishRows[i] = byEnglish[i];
+                englishKeys[i] = englishNames[byEnglish[i]];
+            }
+        }
+
+        private int rowOf(String name) {
+            int row = rowOfKorean(name);
+            return row >= 0 ? row : rowOfEnglish(name);
+        }
+
+        private int rowOfKorean(String koreanName) {
+            if (koreanName == null) {
+                return -1;
+            }
+            int index = Arrays.binarySearch(koreanKeys, koreanName);
+            return index >= 0 ? koreanRows[index] : -1;
+        }
+
+        private int rowOfEnglish(String englishName) {
+            if (englishName == null) {
+                return -1;
+            }
+            int index = Arrays.binarySearch(englishKeys, englishName, ENGLISH_ORDER);
+            return index >= 0 ? englishRows[index] : -1;
+        }
+
+        private static Integer[] rowsSortedBy(String[] names, Comparator<String> order) {
+            Integer[] rows = new Integer[names.length];
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = i;
+            }
+            Arrays.sort(rows, (a, b) -> order.compare(names[a], names[b]));
+            return rows;
+        }
+    }
+}
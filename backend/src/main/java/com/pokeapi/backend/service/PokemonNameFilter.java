@@ -0,0 +1,290 @@
+package com.pokeapi.backend.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokeapi.backend.entity.PokemonNameMapping;
+import com.pokeapi.backend.repository.PokemonNameMappingRepository;
+
+/**
+ * 존재하지 않는 포켓몬 이름 차단 (Bloom 필터 + TTL 부정 캐시)
+ *
+ * 오타/봇 요청이 매번 PokeAPI 호출(타임아웃 10초, 재시도 3회)까지 가지 않도록
+ * 1) 최근에 찾지 못한 이름은 TTL 동안 부정 캐시로 바로 거절하고
+ * 2) 알려진 전체 이름으로 만든 Bloom 필터에 없는 이름은 확실히 없는 이름으로 보고 거절한다.
+ *
+ * Bloom 필터는 이름 목록이 완전할 때만 거절에 사용한다.
+ * 영문은 PokeAPI 전체 목록을 받아온 경우, 한글은 이름 사전이 전체 species를 수록한 경우에만 완전한 것으로 본다.
+ * (매핑 테이블에 행이 있다는 것만으로는 부족하다. 시드가 일부 세대만 담고 있으면 나머지 한글 이름을 잘못 거절한다)
+ */
+@Component
+public class PokemonNameFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PokemonNameFilter.class);
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+    private static final int ROSTER_LIMIT = 100000;
+
+    @Autowired
+    private PokemonCatalog pokemonCatalog;
+
+    @Autowired
+    private PokemonNameMappingRepository pokemonNameMappingRepository;
+
+    @Autowired
+    private WebClient webClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${pokemon.negative-cache.ttl-seconds:600}")
+    private long negativeCacheTtlSeconds;
+
+    @Value("${pokemon.negative-cache.max-entries:10000}")
+    private int negativeCacheMaxEntries;
+
+    // 이름 → 만료 시각(ms)
+    private final Map<String, Long> negativeCache = new ConcurrentHashMap<>();
+
+    private volatile NameBloomFilter knownNames;
+    private volatile boolean englishComplete = false;
+    private volatile boolean koreanComplete = false;
+
+    private final AtomicLong negativeCacheHits = new AtomicLong();
+    private final AtomicLong bloomRejects = new AtomicLong();
+    private final AtomicLong passed = new AtomicLong();
+    private final AtomicLong recordedMisses = new AtomicLong();
+
+    /**
+     * 애플리케이션 시작 완료 후 Bloom 필터 구성
+     *
+     * PokeAPI 전체 목록 조회가 포함되므로 시작을 막지 않도록 백그라운드에서 구성한다.
+     * 구성이 끝나기 전에는 필터가 비어 있어 모든 이름을 통과시킨다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        CompletableFuture.runAsync(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                logger.error("이름 Bloom 필터 구성 실패: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * 카탈로그, 이름 매핑 테이블, 이름 사전, PokeAPI 전체 목록으로 Bloom 필터 재구성
+     */
+    public synchronized void rebuild() {
+        CatalogSnapshot catalog = pokemonCatalog.current();
+        List<PokemonNameMapping> mappings = pokemonNameMappingRepository.findAll();
+        List<PokemonNameSeed.Entry> dictionary = PokemonNameDictionary.entries();
+        List<String> roster = fetchEnglishRoster();
+
+        int expected = catalog.size() * 2 + mappings.size() * 2 + dictionary.size() * 2
+                + (roster != null ? roster.size() : 0);
+        NameBloomFilter filter = new NameBloomFilter(expected + 1024, FALSE_POSITIVE_RATE);
+
+        for (CatalogPokemon pokemon : catalog.getEntries()) {
+            putIfPresent(filter, pokemon.getName());
+            putIfPresent(filter, pokemon.getKoreanName());
+        }
+        for (PokemonNameMapping mapping : mappings) {
+            putIfPresent(filter, mapping.getEnglishName());
+            putIfPresent(filter, mapping.getKoreanName());
+        }
+        for (PokemonNameSeed.Entry entry : dictionary) {
+            putIfPresent(filter, entry.getEnglishName());
+            putIfPresent(filter, entry.getKoreanName());
+        }
+        if (roster != null) {
+            for (String name : roster) {
+                putIfPresent(filter, name);
+            }
+        }
+
+        knownNames = filter;
+        englishComplete = roster != null && !roster.isEmpty();
+        koreanComplete = PokemonNameDictionary.isComplete();
+
+        logger.info("이름 Bloom 필터 구성 완료: {}개 이름, {}비트, 해시 {}개 (영문 완전={}, 한글 완전={})",
+                filter.getInsertions(), filter.getBitCount(), filter.getHashCount(),
+                englishComplete, koreanComplete);
+    }
+
+    /**
+     * 확실히 존재하지 않는 이름인지 확인 (true면 외부 API 호출 없이 바로 404 처리)
+     */
+    public boolean isDefinitelyUnknown(String name) {
+        String key = normalize(name);
+        if (key == null || key.isEmpty()) {
+            return true;
+        }
+
+        Long expiresAt = negativeCache.get(key);
+        if (expiresAt != null) {
+            if (expiresAt > System.currentTimeMillis()) {
+                negativeCacheHits.incrementAndGet();
+                return true;
+            }
+            negativeCache.remove(key, expiresAt);
+        }
+
+        NameBloomFilter filter = knownNames;
+        if (filter != null && isAuthoritative(key) && !filter.mightContain(key)) {
+            bloomRejects.incrementAndGet();
+            return true;
+        }
+
+        passed.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 찾지 못한 이름을 부정 캐시에 기록
+     */
+    public void recordMiss(String name) {
+        String key = normalize(name);
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        if (negativeCache.size() >= negativeCacheMaxEntries) {
+            evictExpired();
+            if (negativeCache.size() >= negativeCacheMaxEntries) {
+                negativeCache.clear(); // 상한 초과 시 통째로 비움 (메모리 보호)
+            }
+        }
+        negativeCache.put(key, System.currentTimeMillis() + negativeCacheTtlSeconds * 1000);
+        recordedMisses.incrementAndGet();
+    }
+
+    /**
+     * 새로 저장된 이름을 등록 (Bloom 필터 추가 + 부정 캐시 제거)
+     */
+    public void register(String... names) {
+        NameBloomFilter filter = knownNames;
+        for (String name : names) {
+            String key = normalize(name);
+            if (key == null || key.isEmpty()) {
+                continue;
+            }
+            negativeCache.remove(key);
+            if (filter != null) {
+                filter.put(key);
+            }
+        }
+    }
+
+    /**
+     * 히트/미스 카운터 조회
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("negativeCacheHits", negativeCacheHits.get());
+        stats.put("bloomRejects", bloomRejects.get());
+        stats.put("passed", passed.get());
+        stats.put("recordedMisses", recordedMisses.get());
+        stats.put("negativeCacheSize", negativeCache.size());
+        stats.put("negativeCacheTtlSeconds", negativeCacheTtlSeconds);
+
+        NameBloomFilter filter = knownNames;
+        stats.put("bloomNames", filter != null ? filter.getInsertions() : 0);
+        stats.put("bloomBits", filter != null ? filter.getBitCount() : 0);
+        stats.put("bloomEstimatedFalsePositiveRate", filter != null ? filter.estimatedFalsePositiveRate() : 0.0);
+        stats.put("englishComplete", englishComplete);
+        stats.put("koreanComplete", koreanComplete);
+        return stats;
+    }
+
+    /**
+     * PokeAPI 전체 포켓몬 영문 이름 목록 (이름만 한 번에 조회, 실패 시 null)
+     */
+    private List<String> fetchEnglishRoster() {
+        try {
+            String response = webClient.get()
+                    .uri("/pokemon?limit={limit}&offset=0", ROSTER_LIMIT)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .timeout(Duration.ofSeconds(10))
+                    .block();
+            if (response == null) {
+                return null;
+            }
+            JsonNode results = objectMapper.readTree(response).get("results");
+            if (results == null || !results.isArray()) {
+                return null;
+            }
+            List<String> names = new ArrayList<>(results.size());
+            for (JsonNode result : results) {
+                if (result.hasNonNull("name")) {
+                    names.add(result.get("name").asText());
+                }
+            }
+            return names;
+        } catch (Exception e) {
+            logger.warn("PokeAPI 전체 이름 목록 조회 실패, 영문 이름은 Bloom 필터로 거절하지 않음: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 이름 종류별로 Bloom 필터가 완전한지 확인 (숫자 ID는 항상 통과)
+     */
+    private boolean isAuthoritative(String key) {
+        boolean ascii = true;
+        boolean digits = true;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c > 0x7f) {
+                ascii = false;
+            }
+            if (c < '0' || c > '9') {
+                digits = false;
+            }
+        }
+        if (digits) {
+            return false;
+        }
+        return ascii ? englishComplete : koreanComplete;
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<String, Long>> iterator = negativeCache.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue() <= now) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static void putIfPresent(NameBloomFilter filter, String name) {
+        String key = normalize(name);
+        if (key != null && !key.isEmpty()) {
+            filter.put(key);
+        }
+    }
+
+    private static String normalize(String name) {
+        return name != null ? name.trim().toLowerCase(Locale.ROOT) : null;
+    }
+}
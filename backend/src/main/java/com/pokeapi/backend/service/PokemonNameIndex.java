@@ -0,0 +1,187 @@
+package com.pokeapi.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 이름 부분일치 검색용 n-gram 역색인
+ *
+ * 한글 이름과 영문 이름(소문자)의 글자 단위 unigram/bigram마다 포함하는 ordinal 목록을 가진다.
+ * 검색어의 bigram 목록을 교집합해서 후보를 좁힌 뒤 실제 포함 여부를 확인하므로
+ * LIKE '%keyword%' 처럼 전체 행을 훑지 않는다.
+ * 결과는 정확 일치 > 접두 일치 > 중간 일치 순이며, 크기 K인 힙으로 상위 K개만 고른다.
+ * 영문 이름 일치는 호출하는 쪽에서 요청할 때만 포함한다.
+ */
+public final class PokemonNameIndex {
+
+    private static final int EXACT = 0;
+    private static final int PREFIX = 1;
+    private static final int INFIX = 2;
+    private static final int NO_MATCH = 3;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final String[] englishKeys;
+    private final String[] koreanKeys;
+    private final Map<String, int[]> postings;
+
+    public PokemonNameIndex(List<CatalogPokemon> entries) {
+        this.englishKeys = new String[entries.size()];
+        this.koreanKeys = new String[entries.size()];
+
+        Map<String, List<Integer>> building = new HashMap<>();
+        for (int ordinal = 0; ordinal < entries.size(); ordinal++) {
+            CatalogPokemon pokemon = entries.get(ordinal);
+            englishKeys[ordinal] = normalize(pokemon.getName());
+            koreanKeys[ordinal] = normalize(pokemon.getKoreanName());
+            addGrams(building, englishKeys[ordinal], ordinal);
+            addGrams(building, koreanKeys[ordinal], ordinal);
+        }
+
+        this.postings = new HashMap<>(building.size() * 2);
+        for (Map.Entry<String, List<Integer>> entry : building.entrySet()) {
+            List<Integer> ordinals = entry.getValue();
+            int[] list = new int[ordinals.size()];
+            for (int i = 0; i < list.length; i++) {
+                list[i] = ordinals.get(i);
+            }
+            postings.put(entry.getKey(), list);
+        }
+    }
+
+    /**
+     * 이름 부분일치 검색
+     *
+     * @param keyword        검색어 (한글/영문, 대소문자 무시)
+     * @param limit          최대 결과 수
+     * @param includeEnglish true면 영문 이름 일치도 포함, false면 한글 이름만
+     * @return 순위 순 ordinal 목록
+     */
+    public List<Integer> search(String keyword, int limit, boolean includeEnglish) {
+        String query = normalize(keyword);
+        if (query == null || query.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        int[] candidates = candidates(query);
+
+        // 최악 순위가 머리에 오는 힙 (크기 limit 유지)
+        PriorityQueue<Long> top = new PriorityQueue<>(Math.min(limit, 64) + 1, Collections.reverseOrder());
+        for (int ordinal : candidates) {
+            int rank = rank(koreanKeys[ordinal], query);
+            if (includeEnglish) {
+                rank = Math.min(rank, rank(englishKeys[ordinal], query));
+            }
+            if (rank == NO_MATCH) {
+                continue; // bigram은 모두 있지만 연속 부분 문자열은 아닌 경우
+            }
+            long key = ((long) rank << 32) | ordinal;
+            if (top.size() < limit) {
+                top.add(key);
+            } else if (key < top.peek()) {
+                top.poll();
+                top.add(key);
+            }
+        }
+
+        long[] ranked = new long[top.size()];
+        int i = 0;
+        for (Long key : top) {
+            ranked[i++] = key;
+        }
+        Arrays.sort(ranked);
+
+        List<Integer> result = new ArrayList<>(ranked.length);
+        for (long key : ranked) {
+            result.add((int) key);
+        }
+        return result;
+    }
+
+    /**
+     * 검색어의 gram 포스팅 목록 교집합 (짧은 목록부터)
+     */
+    private int[] candidates(String query) {
+        if (query.length() == 1) {
+            return postings.getOrDefault(query, EMPTY);
+        }
+
+        List<int[]> lists = new ArrayList<>(query.length() - 1);
+        for (int i = 0; i + 1 < query.length(); i++) {
+            int[] list = postings.get(query.substring(i, i + 2));
+            if (list == null) {
+                return EMPTY;
+            }
+            lists.add(list);
+        }
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return count == out.length ? out : Arrays.copyOf(out, count);
+    }
+
+    private static int rank(String key, String query) {
+        if (key == null) {
+            return NO_MATCH;
+        }
+        if (key.equals(query)) {
+            return EXACT;
+        }
+        if (key.startsWith(query)) {
+            return PREFIX;
+        }
+        return key.contains(query) ? INFIX : NO_MATCH;
+    }
+
+    private static void addGrams(Map<String, List<Integer>> building, String key, int ordinal) {
+        if (key == null) {
+            return;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            addPosting(building, key.substring(i, i + 1), ordinal);
+            if (i + 1 < key.length()) {
+                addPosting(building, key.substring(i, i + 2), ordinal);
+            }
+        }
+    }
+
+    private static void addPosting(Map<String, List<Integer>> building, String gram, int ordinal) {
+        List<Integer> ordinals = building.computeIfAbsent(gram, g -> new ArrayList<>());
+        // ordinal을 오름차순으로 넣으므로 마지막 원소만 보면 중복 제거됨
+        if (ordinals.isEmpty() || ordinals.get(ordinals.size() - 1) != ordinal) {
+            ordinals.add(ordinal);
+        }
+    }
+
+    private static String normalize(String name) {
+        return name != null ? name.trim().toLowerCase(Locale.ROOT) : null;
+    }
+}
@@ -0,0 +1,127 @@
+package com.pokeapi.backend.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * jar에 포함된 포켓몬 이름 시드 (seed/pokemon-names.csv)
+ *
+ * 형식: pokemon_id,english_name,korean_name,generation ('#' 주석, 첫 헤더 줄 무시)
+ * '# species=N' 주석은 생성 시점의 PokeAPI 전체 species 수다. (시드가 전체를 수록했는지 판단용)
+ * 파일은 PokemonSeedGenerator가 PokeAPI에서 만들어 커밋하고, 실행 중에는 네트워크 없이 읽기만 한다.
+ */
+public final class PokemonNameSeed {
+
+    public static final String RESOURCE = "seed/pokemon-names.csv";
+
+    private static final String SPECIES_COUNT_PREFIX = "# species=";
+
+    private static int speciesCount;
+
+    private static final List<Entry> ENTRIES = load();
+
+    private PokemonNameSeed() {
+    }
+
+    /**
+     * 시드 항목 전체 (pokemonId 오름차순, 불변)
+     */
+    public static List<Entry> entries() {
+        return ENTRIES;
+    }
+
+    /**
+     * 시드 헤더의 전체 species 수 (없으면 0)
+     */
+    public static int speciesCount() {
+        return speciesCount;
+    }
+
+    /**
+     * /pokemon-species/{id} 응답 → 시드 항목
+     *
+     * 영문 이름은 /pokemon/{name}에서 쓰는 기본 폼 이름(예: deoxys → deoxys-normal),
+     * 한글 이름이 없으면 영문 이름을 쓴다.
+     */
+    public static Entry fromSpecies(JsonNode species) {
+        String englishName = species.path("name").asText();
+        for (JsonNode variety : species.path("varieties")) {
+            if (variety.path("is_default").asBoolean(false)) {
+                englishName = variety.path("pokemon").path("name").asText(englishName);
+                break;
+            }
+        }
+        String koreanName = englishName;
+        for (JsonNode name : species.path("names")) {
+            if ("ko".equals(name.path("language").path("name").asText())) {
+                koreanName = name.path("name").asText(englishName);
+                break;
+            }
+        }
+        String[] parts = species.path("generation").path("url").asText().split("/");
+        String last = parts.length > 0 ? parts[parts.length - 1] : "";
+        int generation = last.matches("\\d+") ? Integer.parseInt(last) : 0;
+        return new Entry(species.path("id").asInt(), englishName, koreanName, generation);
+    }
+
+    private static List<Entry> load() {
+        InputStream in = PokemonNameSeed.class.getClassLoader().getResourceAsStream(RESOURCE);
+        if (in == null) {
+            return Collections.emptyList();
+        }
+        List<Entry> entries = new ArrayList<>(1100);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.startsWith(SPECIES_COUNT_PREFIX)) {
+                    speciesCount = Integer.parseInt(line.substring(SPECIES_COUNT_PREFIX.length()).trim());
+                    continue;
+                }
+                if (line.isEmpty() || line.startsWith("#") || line.startsWith("pokemon_id")) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                if (columns.length < 4) {
+                    continue;
+                }
+                entries.add(new Entry(Integer.parseInt(columns[0].trim()), columns[1].trim(),
+                        columns[2].trim(), Integer.parseInt(columns[3].trim())));
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new IllegalStateException("포켓몬 이름 시드 읽기 실패: " + RESOURCE, e);
+        }
+        entries.sort((a, b) -> Integer.compare(a.getPokemonId(), b.getPokemonId()));
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * 시드 한 줄
+     */
+    public static final class Entry {
+        private final int pokemonId;
+        private final String englishName;
+        private final String koreanName;
+        private final int generation;
+
+        public Entry(int pokemonId, String englishName, String koreanName, int generation) {
+            this.pokemonId = pokemonId;
+            this.englishName = englishName;
+            this.koreanName = koreanName;
+            this.generation = generation;
+        }
+
+        public int getPokemonId() { return pokemonId; }
+        public String getEnglishName() { return englishName; }
+        public String getKoreanName() { return koreanName; }
+        public int getGeneration() { return generation; }
+    }
+}
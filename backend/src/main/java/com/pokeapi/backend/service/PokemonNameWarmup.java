@@ -0,0 +1,199 @@
+package com.pokeapi.backend.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokeapi.backend.entity.PokemonNameMapping;
+import com.pokeapi.backend.repository.PokemonNameMappingRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 이름 사전 백그라운드 보충 (시드에 없는 species)
+ *
+ * 1) 이전 실행에서 보충해 둔 매핑 테이블 행을 사전에 더하고
+ * 2) 그래도 전체 species가 다 들어 있지 않으면 PokeAPI species 목록에서 빠진 것만 받아
+ *    매핑 테이블에 저장하면서 사전을 넓힌다. (WebClient 속도 제한 예산 공유)
+ * 시작을 막지 않도록 백그라운드에서 돌고, 끝나면 이름 Bloom 필터를 다시 만든다.
+ */
+@Component
+public class PokemonNameWarmup {
+
+    private static final Logger logger = LoggerFactory.getLogger(PokemonNameWarmup.class);
+
+    private static final int SPECIES_LIMIT = 100000;
+    private static final int SAVE_BATCH_SIZE = 50;
+
+    @Autowired
+    private PokemonNameMappingRepository pokemonNameMappingRepository;
+
+    @Autowired
+    private PokemonSeedLoader pokemonSeedLoader;
+
+    @Autowired
+    private PokemonNameFilter pokemonNameFilter;
+
+    @Autowired
+    private WebClient webClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${pokemon.name-warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${pokemon.import.concurrency:8}")
+    private int concurrency;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger restored = new AtomicInteger();
+    private final AtomicInteger fetched = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        CompletableFuture.runAsync(() -> {
+            try {
+                warmUp();
+            } catch (Exception e) {
+                logger.error("이름 사전 보충 실패: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * 매핑 테이블 복원 후, 아직 빠진 species를 PokeAPI에서 받아 사전과 매핑 테이블에 추가
+     *
+     * @return 사전에 새로 추가된 항목 수
+     */
+    public int warmUp() {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("이름 사전 보충이 이미 진행 중입니다.");
+            return 0;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            int added = restoreFromMappings();
+            if (!PokemonNameDictionary.isComplete() && enabled) {
+                added += fetchMissingSpecies();
+            }
+            if (added > 0) {
+                pokemonNameFilter.rebuild();
+            }
+            logger.info("이름 사전 보충 완료: 추가 {}개, 사전 {}개, 전체 수록={} ({}ms)",
+                    added, PokemonNameDictionary.size(), PokemonNameDictionary.isComplete(),
+                    System.currentTimeMillis() - start);
+            return added;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 보충 상태 (모니터링용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("dictionarySize", PokemonNameDictionary.size());
+        stats.put("complete", PokemonNameDictionary.isComplete());
+        stats.put("running", running.get());
+        stats.put("restored", restored.get());
+        stats.put("fetched", fetched.get());
+        stats.put("failures", failures.get());
+        return stats;
+    }
+
+    private int restoreFromMappings() {
+        List<PokemonNameSeed.Entry> entries = new ArrayList<>();
+        for (PokemonNameMapping mapping : pokemonNameMappingRepository.findAll()) {
+            if (PokemonNameDictionary.englishNameOf(mapping.getPokemonId()) == null) {
+                entries.add(new PokemonNameSeed.Entry(mapping.getPokemonId(), mapping.getEnglishName(),
+                        mapping.getKoreanName(), mapping.getGeneration() != null ? mapping.getGeneration() : 0));
+            }
+        }
+        int added = PokemonNameDictionary.extend(entries);
+        restored.addAndGet(added);
+        return added;
+    }
+
+    private int fetchMissingSpecies() {
+        List<Integer> missing = new ArrayList<>();
+        try {
+            String response = webClient.get()
+                    .uri("/pokemon-species?limit={limit}&offset=0", SPECIES_LIMIT)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block();
+            JsonNode results = objectMapper.readTree(response).path("results");
+            for (JsonNode result : results) {
+                int speciesId = idFromUrl(result.path("url").asText());
+                if (speciesId > 0 && PokemonNameDictionary.englishNameOf(speciesId) == null) {
+                    missing.add(speciesId);
+                }
+            }
+            PokemonNameDictionary.setSpeciesCount(results.size());
+        } catch (Exception e) {
+            logger.warn("PokeAPI species 목록 조회 실패, 시드에 있는 이름만 사용: {}", e.getMessage());
+            return 0;
+        }
+        logger.info("이름 사전 보충 시작: 사전에 없는 species {}개", missing.size());
+
+        Integer added = Flux.fromIterable(missing)
+                .flatMap(speciesId -> webClient.get()
+                        .uri("/pokemon-species/{id}", speciesId)
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .map(json -> parseSpecies(speciesId, json))
+                        .onErrorResume(e -> {
+                            failures.incrementAndGet();
+                            logger.warn("species {} 이름 조회 실패: {}", speciesId, e.getMessage());
+                            return Mono.empty();
+                        }), concurrency)
+                .buffer(SAVE_BATCH_SIZE)
+                .concatMap(batch -> Mono.fromCallable(() -> saveBatch(batch))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .reduce(0, Integer::sum)
+                .block();
+        return added != null ? added : 0;
+    }
+
+    private PokemonNameSeed.Entry parseSpecies(Integer speciesId, String json) {
+        try {
+            return PokemonNameSeed.fromSpecies(objectMapper.readTree(json));
+        } catch (Exception e) {
+            throw new IllegalStateException("species " + speciesId + " 응답 파싱 실패", e);
+        }
+    }
+
+    // 매핑 테이블에 먼저 저장해 두고 사전에 반영 (다음 시작 때 네트워크 없이 복원)
+    private int saveBatch(List<PokemonNameSeed.Entry> batch) {
+        pokemonSeedLoader.insertMappings(batch);
+        int added = PokemonNameDictionary.extend(batch);
+        fetched.addAndGet(added);
+        return added;
+    }
+
+    private static int idFromUrl(String url) {
+        String[] parts = url.split("/");
+        String last = parts.length > 0 ? parts[parts.length - 1] : "";
+        return last.matches("\\d+") ? Integer.parseInt(last) : 0;
+    }
+}
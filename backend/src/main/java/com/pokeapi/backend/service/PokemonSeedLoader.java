@@ -0,0 +1,109 @@
+package com.pokeapi.backend.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pokeapi.backend.repository.PokemonNameMappingRepository;
+
+/**
+ * 시작 시 이름 매핑 테이블을 jar 안의 시드로 채움
+ *
+ * 매 시작마다 시드 전체를 ON CONFLICT DO NOTHING 배치 INSERT로 넣어, 빈 테이블은 채우고
+ * 예전 시드(1세대 하드코딩 등)로 일부만 채워진 테이블은 빠진 행만 보충한다.
+ * 네트워크 없이 한 트랜잭션으로 끝나며, 이름 필터 등 다른 시작 작업이 매핑 테이블을 읽기 전에 돌도록 가장 먼저 실행한다.
+ */
+@Component
+public class PokemonSeedLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(PokemonSeedLoader.class);
+
+    private static final String INSERT_MAPPING =
+            "INSERT INTO pokemon_name_mapping (korean_name, english_name, pokemon_id, generation, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (korean_name, english_name) DO NOTHING";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PokemonNameMappingRepository pokemonNameMappingRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void loadOnStartup() {
+        try {
+            long start = System.currentTimeMillis();
+            int inserted = loadSeed();
+            logger.info("이름 매핑 시드 적재 완료: 시드 {}건 중 {}건 추가, 전체 {}건 ({}ms)",
+                    PokemonNameSeed.entries().size(), inserted, pokemonNameMappingRepository.count(),
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("이름 매핑 시드 적재 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 시드 전체를 한 트랜잭션으로 저장 (이미 있는 행은 건너뜀)
+     *
+     * @return 새로 추가된 행 수
+     */
+    public int loadSeed() {
+        return insertMappings(PokemonNameSeed.entries());
+    }
+
+    /**
+     * 이름 항목을 한 트랜잭션으로 저장 (이미 있는 행은 건너뜀)
+     *
+     * @return 새로 추가된 행 수
+     */
+    public int insertMappings(List<PokemonNameSeed.Entry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        int[] counts = transactionTemplate.execute(status ->
+                jdbcTemplate.batchUpdate(INSERT_MAPPING, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PokemonNameSeed.Entry entry = entries.get(i);
+                        ps.setString(1, entry.getKoreanName());
+                        ps.setString(2, entry.getEnglishName());
+                        ps.setInt(3, entry.getPokemonId());
+                        ps.setInt(4, entry.getGeneration());
+                        ps.setTimestamp(5, now);
+                        ps.setTimestamp(6, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return entries.size();
+                    }
+                }));
+        int inserted = 0;
+        if (counts != null) {
+            for (int count : counts) {
+                // 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2)를 주므로 1건으로 센다
+                inserted += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+        }
+        return inserted;
+    }
+}
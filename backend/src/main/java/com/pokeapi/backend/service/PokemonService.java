@@ -1,31 +1,57 @@
 package com.pokeapi.backend.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import com.pokeapi.backend.config.TokenBucket;
+import com.pokeapi.backend.dto.ApiResourceDTO;
+import com.pokeapi.backend.dto.ChainDTO;
+import com.pokeapi.backend.dto.EvolutionChainDetailDTO;
 import com.pokeapi.backend.dto.EvolutionDTO;
+import com.pokeapi.backend.dto.EvolutionDetailDTO;
+import com.pokeapi.backend.dto.EvolutionStageDTO;
 import com.pokeapi.backend.dto.PokemonDTO;
+import com.pokeapi.backend.dto.PokemonSuggestionDTO;
 import com.pokeapi.backend.dto.SpeciesDTO;
 import com.pokeapi.backend.dto.PokemonApiResponseDTO;
 import com.pokeapi.backend.repository.PokemonRepository;
+import com.pokeapi.backend.repository.PokemonSummary;
+import com.pokeapi.backend.repository.PokemonBatchRepository;
 import com.pokeapi.backend.repository.PokemonNameMappingRepository;
+import com.pokeapi.backend.repository.PokemonSearchCondition;
+import com.pokeapi.backend.repository.PokemonSearchMapper;
 import com.pokeapi.backend.entity.PokemonNameMapping;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import com.pokeapi.backend.entity.Pokemon;
 import org.springframework.web.reactive.function.client.WebClient;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
-import java.util.stream.Collectors;
+import java.util.Collections;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import java.util.Set;
 import java.util.HashMap;
-import jakarta.annotation.PostConstruct;
 import java.time.Duration;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuples;
+import java.util.Locale;
+import java.util.Base64;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
     
 
@@ -44,6 +70,9 @@ public class PokemonService {
     @Autowired
     private PokemonRepository pokemonRepository;
 
+    @Autowired
+    private PokemonBatchRepository pokemonBatchRepository;
+
     @Autowired
     private WebClient webClient;
 
@@ -53,6 +82,47 @@ public class PokemonService {
     @Autowired
     private PokemonNameMappingRepository pokemonNameMappingRepository;
 
+    @Autowired
+    private PokemonCatalog pokemonCatalog;
+
+    @Autowired
+    private PokemonNameFilter pokemonNameFilter;
+
+    @Autowired
+    private PokemonNameWarmup pokemonNameWarmup;
+
+    @Autowired
+    private TokenBucket pokeApiRateLimiter;
+
+    @Autowired
+    private EvolutionChainStore evolutionChainStore;
+
+    @Autowired
+    private CatalogBundleStore catalogBundleStore;
+
+    @Autowired
+    private PokemonSearchMapper pokemonSearchMapper;
+
+    // 이름별 외부 조회 합치기 (follower 최대 대기 시간은 PokeAPI 타임아웃+재시도 시간 이상)
+    private final SingleFlight<PokemonDTO> pokemonLookups = new SingleFlight<>(Duration.ofSeconds(60));
+
+    // 대량 적재 동시 요청 수 / 저장 배치 크기
+    @Value("${pokemon.import.concurrency:8}")
+    private int importConcurrency;
+
+    @Value("${pokemon.import.batch-size:50}")
+    private int importBatchSize;
+
+    // 전체 스트리밍 출력 시 flush 간격 (건수)
+    private static final int STREAM_FLUSH_INTERVAL = 50;
+
+    // 페이징 전체 개수 캐시 (세대, 0이면 전체 → {카탈로그 버전, 개수})
+    private final Map<Integer, long[]> pokemonCounts = new ConcurrentHashMap<>();
+
+    // 자동완성 기본/최대 후보 수
+    public static final int DEFAULT_AUTOCOMPLETE_LIMIT = 10;
+    public static final int MAX_AUTOCOMPLETE_LIMIT = 50;
+
  
 
     /**
@@ -62,10 +132,31 @@ public class PokemonService {
      * @return PokemonDTO 또는 null
      */
     public PokemonDTO searchPokemonName(String name) {
-        // 1단계: DB에서 캐시된 데이터 조회 (빠른 응답)
+        // 1단계: 메모리 카탈로그 조회 (DB 왕복 없음)
+        CatalogPokemon cached = pokemonCatalog.current().findByNameOrKoreanName(name);
+        if (cached != null) {
+            return cached.toDTO();
+        }
+
+        // 최근에 못 찾은 이름이거나 Bloom 필터상 확실히 없는 이름이면 바로 종료 (외부 API 호출 없음)
+        if (pokemonNameFilter.isDefinitelyUnknown(name)) {
+            logger.debug("존재하지 않는 포켓몬 이름으로 판단되어 조회 생략: {}", name);
+            return null;
+        }
+
+        // 같은 이름의 동시 캐시 미스는 한 번만 DB/외부 API를 조회하고 결과를 공유
+        return pokemonLookups.execute(name.trim().toLowerCase(Locale.ROOT), () -> loadPokemon(name));
+    }
+
+    /**
+     * 카탈로그 미스 시 DB → 외부 API 순으로 조회 후 저장 (single-flight leader만 실행)
+     */
+    private PokemonDTO loadPokemon(String name) {
+        // 카탈로그에 반영되지 않은 행이 있을 수 있으므로 DB 확인
         Optional<Pokemon> pokemon = pokemonRepository.findByNameOrKoreanName(name, name);
 
         if (pokemon.isPresent()) {
+            pokemonCatalog.publish(pokemon.get());
             return convertToDTO(pokemon.get()); // 캐시 히트: DB에서 바로 반환
         }
 
@@ -83,34 +174,74 @@ public class PokemonService {
             logger.error("외부 API 호출 실패 - 포켓몬: {}, 오류: {}", name, e.getMessage(), e);
         }
 
-        // 4단계: 모든 소스에서 데이터를 찾을 수 없는 경우
+        // 4단계: 모든 소스에서 데이터를 찾을 수 없는 경우 (TTL 동안 부정 캐시)
+        pokemonNameFilter.recordMiss(name);
         logger.warn("포켓몬 '{}'을(를) 찾을 수 없습니다. DB에도 없고 외부 API에서도 가져올 수 없음", name);
         return null;
     }
 
     /**
-     * 한글 이름으로 부분일치 검색
-     * @Param keyword 검색어
-     * @return  검색결과 리스트
-     * 
+     * 이름 부분일치 검색 (n-gram 색인, fields로 응답 필드 선택, null이면 전체 DTO)
+     * 정확 일치 > 접두 일치 > 중간 일치 순으로 반환
+     *
+     * @param limit 최대 결과 수 (null이면 제한 없음)
+     * @param includeEnglish true면 영문 이름 일치도 포함 (기본은 한글 이름만)
      */
-    public List<PokemonDTO> searchByKoreanName(String keyword) {
-        List<Pokemon> pokemons = pokemonRepository.findByKoreanNameContaining(keyword);
-        return pokemons.stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+    public List<?> searchByKoreanName(String keyword, Integer limit, boolean includeEnglish, PokemonFieldSet fields) {
+        int max = limit != null ? limit : Integer.MAX_VALUE;
+        return toViews(pokemonCatalog.current().searchByName(keyword, max, includeEnglish), fields);
     }
     
+    /**
+     * 자동완성 후보 조회 (메모리 색인만 사용, DB/PokeAPI 호출 없음)
+     * 영문 이름, 한글 이름, 한글 초성("ㅍㅋㅊ" → 피카츄) 접두어로 검색
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit 최대 후보 수 (MAX_AUTOCOMPLETE_LIMIT 이하로 제한)
+     * @return 자동완성 후보 리스트
+     */
+    public List<PokemonSuggestionDTO> autocomplete(String prefix, int limit) {
+        CatalogSnapshot catalog = pokemonCatalog.current();
+        int[] ordinals = catalog.getAutocompleteIndex()
+                .complete(prefix, Math.min(limit, MAX_AUTOCOMPLETE_LIMIT));
+
+        List<PokemonSuggestionDTO> suggestions = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            CatalogPokemon pokemon = catalog.get(ordinal);
+            PokemonSuggestionDTO suggestion = new PokemonSuggestionDTO();
+            suggestion.setId(pokemon.getPokemonId());
+            suggestion.setName(pokemon.getName());
+            suggestion.setKoreanName(pokemon.getKoreanName());
+            suggestion.setSpriteUrl(pokemon.getSpriteUrl());
+            suggestions.add(suggestion);
+        }
+        return suggestions;
+    }
+
+    /**
+     * 이름 조회 보호 장치(부정 캐시/Bloom 필터, 동시 요청 합치기) 통계
+     */
+    public Map<String, Object> getLookupStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("nameFilter", pokemonNameFilter.getStats());
+        stats.put("nameDictionary", pokemonNameWarmup.getStats());
+        stats.put("singleFlight", pokemonLookups.getStats());
+        stats.put("rateLimiter", pokeApiRateLimiter.getStats());
+        stats.put("evolutionChains", evolutionChainStore.getStats());
+        stats.put("catalogBundles", catalogBundleStore.getStats());
+        return stats;
+    }
+
     /**
      * 전체 포켓몬 목록 조회 (DB가 비어있으면 PokeAPI에서 초기화)
      * 
      * @return 전체 포켓몬 DTO 리스트
      */
-    public List<PokemonDTO> getAllPokemons() {
-        List<Pokemon> pokemons = pokemonRepository.findAll();
+    public List<?> getAllPokemons(PokemonFieldSet fields) {
+        CatalogSnapshot catalog = pokemonCatalog.current();
         
         // DB가 비어있으면 PokeAPI에서 전체 포켓몬 초기화
-        if (pokemons.isEmpty()) {
+        if (catalog.isEmpty()) {
             logger.info("DB가 비어있어서 전체 포켓몬을 PokeAPI에서 초기화합니다.");
             try {
                 // PokeAPI 정보 조회로 전체 포켓몬 수 확인
@@ -121,17 +252,15 @@ public class PokemonService {
                 logger.info("전체 포켓몬 초기화 완료: {}", initResult.get("message"));
                 
                 // 초기화 후 다시 조회
-                pokemons = pokemonRepository.findAll();
+                catalog = pokemonCatalog.current();
             } catch (Exception e) {
                 logger.error("포켓몬 초기화 실패: {}", e.getMessage(), e);
                 return new ArrayList<>();
             }
         }
         
-        // 함수형 프로그래밍: Entity → DTO 변환을 스트림으로 처리
-        return pokemons.stream()
-                .map(this::convertToDTO) // 메서드 레퍼런스로 변환 함수 적용
-                .collect(Collectors.toList()); // 스트림 결과를 리스트로 수집
+        // 카탈로그 레코드 → DTO 변환 (JSON 파싱 없음)
+        return toViews(catalog.getEntries(), fields);
     }
 
     /**
@@ -139,79 +268,82 @@ public class PokemonService {
      * 
      * @param page 페이지 번호 (0부터 시작)
      * @param size 페이지당 항목 수
-     * @param generation 세대 번호 (1-9)
+     * @param generation 세대 번호 (0이면 전체, 1-9)
      * @return 페이징 정보와 포켓몬 목록
      */
-    public Map<String, Object> getPokemonsWithPaging(int page, int size, int generation) {
+    public Map<String, Object> getPokemonsWithPaging(int page, int size, int generation, String cursor,
+            boolean includeTotal, PokemonFieldSet fields) {
+        // 세대와 커서는 클라이언트 입력이므로 먼저 검증 (잘못된 값은 서버 오류 로그 없이 400으로 처리)
+        if (generation < 0 || generation > PokemonTypeIndex.MAX_GENERATION) {
+            throw new IllegalArgumentException("지원하지 않는 세대입니다: " + generation);
+        }
+        boolean keyset = cursor != null && !cursor.isEmpty();
+        int afterId = keyset ? decodePageCursor(cursor, generation) : 0;
+
         try {
-            List<Pokemon> pokemons;
-            
-            // generation이 0이면 전체 포켓몬 조회
-            if (generation == 0) {
-                pokemons = pokemonRepository.findAll();
-                logger.info("전체 포켓몬 조회: 총 {}마리", pokemons.size());
+            // 해당 세대의 포켓몬이 없으면 그 세대의 전국도감 번호 구간을 PokeAPI에서 초기화
+            if (generation != 0 && countPokemons(generation) == 0) {
+                logger.info("세대 {}의 포켓몬이 없어서 PokeAPI에서 초기화합니다.", generation);
+                try {
+                    int startId = PokemonTypeIndex.firstPokemonIdOf(generation);
+                    int limit = PokemonTypeIndex.lastPokemonIdOf(generation) - startId + 1;
+                    Map<String, Object> initResult = initializeAllPokemonsFromApi(limit, startId - 1);
+                    logger.info("세대 {} 포켓몬 초기화 완료: {}", generation, initResult.get("message"));
+                } catch (Exception e) {
+                    logger.error("세대 {} 포켓몬 초기화 실패: {}", generation, e.getMessage(), e);
+                }
+            }
+
+            // 커서가 있으면 키셋 페이징 (마지막 ID 다음부터 size + 1건 읽어서 다음 페이지 판단)
+            // 커서가 없으면 기존 페이지 번호로 OFFSET 페이징 (다음 페이지는 캐시된 개수로 판단)
+            // 세대는 저장된 generation 컬럼으로 거르므로 세대 번들(/catalog/{v}/gen-N)과 같은 포켓몬이 나온다.
+            // 요약 필드만 요청하면 요약 프로젝션으로 필요한 컬럼만 조회
+            Class<?> rowType = fields != null && fields.isSummaryOnly() ? PokemonSummary.class : Pokemon.class;
+            List<?> rows;
+            boolean hasNext;
+            if (keyset) {
+                rows = findPokemonPage(generation, afterId, PageRequest.of(0, size + 1), rowType);
+                hasNext = rows.size() > size;
+                if (hasNext) {
+                    rows = rows.subList(0, size);
+                }
             } else {
-                // 세대별 포켓몬 ID 범위 정의
-                Map<Integer, int[]> generationRanges = new HashMap<>();
-                generationRanges.put(1, new int[]{1, 151});      // 1세대: 1-151
-                generationRanges.put(2, new int[]{152, 251});    // 2세대: 152-251
-                generationRanges.put(3, new int[]{252, 386});    // 3세대: 252-386
-                generationRanges.put(4, new int[]{387, 493});    // 4세대: 387-493
-                generationRanges.put(5, new int[]{494, 649});    // 5세대: 494-649
-                generationRanges.put(6, new int[]{650, 721});    // 6세대: 650-721
-                generationRanges.put(7, new int[]{722, 809});    // 7세대: 722-809
-                generationRanges.put(8, new int[]{810, 898});    // 8세대: 810-898
-                generationRanges.put(9, new int[]{899, 1010});   // 9세대: 899-1010
-                generationRanges.put(10, new int[]{1001, 1120}); // 10세대: 1001-1120
-
-                int[] range = generationRanges.getOrDefault(generation, new int[]{1, 151});
-                int startId = range[0];
-                int endId = range[1];
-
-                // 해당 세대의 포켓몬만 조회
-                pokemons = pokemonRepository.findByPokemonIdBetween(startId, endId);
-                
-                // 해당 세대의 포켓몬이 없으면 PokeAPI에서 초기화
-                if (pokemons.isEmpty()) {
-                    logger.info("세대 {}의 포켓몬이 없어서 PokeAPI에서 초기화합니다.", generation);
-                    try {
-                        int limit = endId - startId + 1;
-                        Map<String, Object> initResult = initializeAllPokemonsFromApi(limit, startId - 1);
-                        logger.info("세대 {} 포켓몬 초기화 완료: {}", generation, initResult.get("message"));
-                        
-                        // 초기화 후 다시 조회
-                        pokemons = pokemonRepository.findByPokemonIdBetween(startId, endId);
-                    } catch (Exception e) {
-                        logger.error("세대 {} 포켓몬 초기화 실패: {}", generation, e.getMessage(), e);
-                        pokemons = new ArrayList<>();
-                    }
+                rows = findPokemonPage(generation, 0, PageRequest.of(page, size), rowType);
+                hasNext = rows.size() == size && (long) (page + 1) * size < countPokemons(generation);
+            }
+
+            List<Object> pagedPokemons = new ArrayList<>(rows.size());
+            Integer lastPokemonId = null;
+            for (Object row : rows) {
+                if (row instanceof PokemonSummary summary) {
+                    pagedPokemons.add(fields.project(summary, this::convertJsonToList));
+                    lastPokemonId = summary.getPokemonId();
+                } else {
+                    Pokemon entity = (Pokemon) row;
+                    PokemonDTO dto = convertToDTO(entity);
+                    pagedPokemons.add(fields != null ? fields.project(dto) : dto);
+                    lastPokemonId = entity.getPokemonId();
                 }
             }
-            
-            // 페이징 처리
-            int totalSize = pokemons.size();
-            int totalPages = (int) Math.ceil((double) totalSize / size);
-            int startIndex = page * size;
-            int endIndex = Math.min(startIndex + size, totalSize);
-            
-            List<PokemonDTO> pagedPokemons = pokemons.subList(startIndex, endIndex)
-                    .stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
 
             // 응답 데이터 구성
             Map<String, Object> response = new HashMap<>();
             response.put("content", pagedPokemons);
             response.put("page", page);
             response.put("size", size);
-            response.put("totalElements", totalSize);
-            response.put("totalPages", totalPages);
             response.put("generation", generation);
-            response.put("hasNext", page < totalPages - 1);
-            response.put("hasPrevious", page > 0);
+            response.put("hasNext", hasNext);
+            response.put("hasPrevious", keyset || page > 0);
+            response.put("next", hasNext && lastPokemonId != null ? encodePageCursor(lastPokemonId, generation) : null);
+
+            if (includeTotal) {
+                long totalSize = countPokemons(generation);
+                response.put("totalElements", totalSize);
+                response.put("totalPages", (int) Math.ceil((double) totalSize / size));
+            }
 
-            logger.info("페이징 포켓몬 조회 완료: 세대={}, 페이지={}, 크기={}, 총={}개", 
-                    generation, page, size, totalSize);
+            logger.info("페이징 포켓몬 조회 완료: 세대={}, 페이지={}, 크기={}, 결과={}개",
+                    generation, page, size, pagedPokemons.size());
 
             return response;
 
@@ -221,9 +353,102 @@ public class PokemonService {
         }
     }
 
+    /**
+     * 전체 포켓몬을 스트리밍으로 출력 (NDJSON 또는 JSON 배열)
+     *
+     * DB 커서로 한 행씩 읽어 바로 JSON으로 쓰므로 전체 목록을 메모리에 만들지 않는다.
+     *
+     * @param out 응답 출력 스트림
+     * @param ndjson true면 한 줄에 포켓몬 하나(NDJSON), false면 JSON 배열
+     * @return 출력한 포켓몬 수
+     */
+    public int streamAllPokemons(OutputStream out, boolean ndjson) throws IOException {
+        int[] written = {0};
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // 응답 스트림은 컨테이너가 닫고, 최상위 값 사이 기본 구분자(공백)는 쓰지 않음
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            if (!ndjson) {
+                generator.writeStartArray();
+            }
+            pokemonBatchRepository.forEachPokemon(pokemon -> {
+                try {
+                    generator.writeObject(convertToDTO(pokemon));
+                    if (ndjson) {
+                        generator.writeRaw('\n');
+                    }
+                    // 일정 건수마다 내보내서 첫 바이트가 바로 나가도록 함
+                    if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return written[0];
+    }
+
+    /**
+     * 세대 안에서 afterId 다음부터 ID 순 조회 (세대 0이면 전체)
+     */
+    private <T> List<T> findPokemonPage(int generation, int afterId, Pageable pageable, Class<T> rowType) {
+        return generation == 0
+                ? pokemonRepository.findByPokemonIdGreaterThanOrderByPokemonIdAsc(afterId, pageable, rowType)
+                : pokemonRepository.findByGenerationAndPokemonIdGreaterThanOrderByPokemonIdAsc(
+                        generation, afterId, pageable, rowType);
+    }
+
+    /**
+     * 세대별 포켓몬 수 (세대 0이면 전체, 카탈로그 버전이 같으면 캐시 사용)
+     */
+    private long countPokemons(int generation) {
+        long version = pokemonCatalog.getVersion();
+        long[] cached = pokemonCounts.get(generation);
+        if (cached != null && cached[0] == version) {
+            return cached[1];
+        }
+        long count = generation == 0
+                ? pokemonRepository.countByPokemonIdGreaterThan(0)
+                : pokemonRepository.countByGeneration(generation);
+        pokemonCounts.put(generation, new long[]{version, count});
+        return count;
+    }
+
+    /**
+     * 다음 페이지 커서 생성 (세대:마지막 포켓몬 ID 를 URL-safe Base64로 감쌈)
+     */
+    private String encodePageCursor(int lastPokemonId, int generation) {
+        String raw = generation + ":" + lastPokemonId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 페이지 커서 해석 (잘못된 커서나 다른 세대의 커서는 IllegalArgumentException)
+     */
+    private int decodePageCursor(String cursor, int generation) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator > 0 && Integer.parseInt(raw.substring(0, separator)) == generation) {
+                return Integer.parseInt(raw.substring(separator + 1));
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 공통 처리
+        }
+        throw new IllegalArgumentException("잘못된 페이지 커서입니다: " + cursor);
+    }
+
     /**
      * 고급 검색 기능 - 다양한 조건으로 포켓몬 검색
      * 
+     * 조건은 MyBatis 동적 SQL로 DB에서 거른다(PokemonSearchMapper). SQL 오류는 호출자에게 그대로 전달한다.
+     * 
      * @param type       타입 (예: "Electric", "Fire")
      * @param minHeight  최소 키 (cm)
      * @param maxHeight  최대 키 (cm)
@@ -237,92 +462,86 @@ public class PokemonService {
      * @param maxHp      최대 HP
      * @param minSpeed   최소 속도
      * @param maxSpeed   최대 속도
+     * @param limit      최대 결과 수 (null이면 전체)
      * @return 조건에 맞는 포켓몬 리스트
      */
-    public List<PokemonDTO> advancedSearch(
+    public List<?> advancedSearch(
             String type, Integer minHeight, Integer maxHeight,
             Integer minWeight, Integer maxWeight,
             Integer minAttack, Integer maxAttack,
             Integer minDefense, Integer maxDefense,
             Integer minHp, Integer maxHp,
-            Integer minSpeed, Integer maxSpeed) {
-
-        // 1단계: DB에서 모든 포켓몬 조회
-        List<Pokemon> allPokemons = pokemonRepository.findAll();
-
-        // 2단계: 스트림을 사용한 필터링 (함수형 프로그래밍)
-        return allPokemons.stream()
-                .map(this::convertToDTO) // Entity → DTO 변환
-                .filter(pokemon -> filterByType(pokemon, type)) // 타입 필터
-                .filter(pokemon -> filterByHeight(pokemon, minHeight, maxHeight)) // 키 필터
-                .filter(pokemon -> filterByWeight(pokemon, minWeight, maxWeight)) // 몸무게 필터
-                .filter(pokemon -> filterByStats(pokemon, minAttack, maxAttack, minDefense, maxDefense, minHp, maxHp,
-                        minSpeed, maxSpeed)) // 능력치 필터
-                .collect(Collectors.toList()); // 결과 수집
-    }
+            Integer minSpeed, Integer maxSpeed, Integer limit, PokemonFieldSet fields) {
+
+        String typeName = null;
+        if (type != null && !type.trim().isEmpty()) {
+            PokemonType pokemonType = PokemonType.fromName(type);
+            if (pokemonType == null) {
+                return new ArrayList<>(); // 알 수 없는 타입
+            }
+            typeName = pokemonType.getEnglishName();
+        }
 
-    // Private Helper Methods for Advanced Search
-    private boolean filterByType(PokemonDTO pokemon, String type) {
-        if (type == null || type.trim().isEmpty())
-            return true;
-        return pokemon.getTypes() != null &&
-                pokemon.getTypes().stream()
-                        .anyMatch(t -> t.equalsIgnoreCase(type.trim()));
+        // 조건을 SQL WHERE 절로 내려서 DB에서 거르기
+        PokemonSearchCondition condition = new PokemonSearchCondition();
+        condition.setType(typeName);
+        condition.setMinHeight(minHeight);
+        condition.setMaxHeight(maxHeight);
+        condition.setMinWeight(minWeight);
+        condition.setMaxWeight(maxWeight);
+        condition.setMinAttack(minAttack);
+        condition.setMaxAttack(maxAttack);
+        condition.setMinDefense(minDefense);
+        condition.setMaxDefense(maxDefense);
+        condition.setMinHp(minHp);
+        condition.setMaxHp(maxHp);
+        condition.setMinSpeed(minSpeed);
+        condition.setMaxSpeed(maxSpeed);
+        condition.setLimit(limit);
+
+        // SQL 실패는 그대로 올려서 컨트롤러가 500으로 처리 (카탈로그 필터와는 결측값 규칙이 달라 대신 쓰지 않음)
+        // 요약 필드만 요청하면 /list처럼 요약 컬럼만 조회
+        List<PokemonDTO> rows = fields != null && fields.isSummaryOnly()
+                ? pokemonSearchMapper.advancedSearchSummary(condition)
+                : pokemonSearchMapper.advancedSearch(condition);
+        return projectRows(rows, fields);
     }
 
-    private boolean filterByHeight(PokemonDTO pokemon, Integer minHeight, Integer maxHeight) {
-        if (minHeight != null && pokemon.getHeight() < minHeight)
-            return false;
-        if (maxHeight != null && pokemon.getHeight() > maxHeight)
-            return false;
-        return true;
+    /**
+     * SQL로 조회한 DTO → 응답 객체 (fields가 null이면 그대로, 아니면 선택한 필드만)
+     */
+    private List<?> projectRows(List<PokemonDTO> rows, PokemonFieldSet fields) {
+        if (fields == null) {
+            return rows;
+        }
+        List<Object> results = new ArrayList<>(rows.size());
+        for (PokemonDTO row : rows) {
+            results.add(fields.project(row));
+        }
+        return results;
     }
 
-    private boolean filterByWeight(PokemonDTO pokemon, Integer minWeight, Integer maxWeight) {
-        if (minWeight != null && pokemon.getWeight() < minWeight)
-            return false;
-        if (maxWeight != null && pokemon.getWeight() > maxWeight)
-            return false;
-        return true;
+    /**
+     * 비트셋에 선택된 카탈로그 포켓몬만 DTO로 변환
+     */
+    private List<PokemonDTO> toDTOs(CatalogSnapshot catalog, long[] matches) {
+        List<PokemonDTO> results = new ArrayList<>();
+        for (int ordinal = PokemonTypeIndex.nextSetBit(matches, 0); ordinal >= 0;
+                ordinal = PokemonTypeIndex.nextSetBit(matches, ordinal + 1)) {
+            results.add(catalog.get(ordinal).toDTO());
+        }
+        return results;
     }
 
-    private boolean filterByStats(PokemonDTO pokemon,
-            Integer minAttack, Integer maxAttack,
-            Integer minDefense, Integer maxDefense,
-            Integer minHp, Integer maxHp,
-            Integer minSpeed, Integer maxSpeed) {
-
-        if (pokemon.getStats() == null)
-            return true;
-
-        // 능력치 맵 생성 (이름 → 수치)
-        Map<String, Integer> statsMap = pokemon.getStats().stream()
-                .collect(Collectors.toMap(
-                        stat -> stat.getName().toLowerCase(),
-                        PokemonDTO.StatDTO::getBaseStat));
-
-        // 각 능력치별 필터링
-        if (minAttack != null && statsMap.get("attack") != null && statsMap.get("attack") < minAttack)
-            return false;
-        if (maxAttack != null && statsMap.get("attack") != null && statsMap.get("attack") > maxAttack)
-            return false;
-
-        if (minDefense != null && statsMap.get("defense") != null && statsMap.get("defense") < minDefense)
-            return false;
-        if (maxDefense != null && statsMap.get("defense") != null && statsMap.get("defense") > maxDefense)
-            return false;
-
-        if (minHp != null && statsMap.get("hp") != null && statsMap.get("hp") < minHp)
-            return false;
-        if (maxHp != null && statsMap.get("hp") != null && statsMap.get("hp") > maxHp)
-            return false;
-
-        if (minSpeed != null && statsMap.get("speed") != null && statsMap.get("speed") < minSpeed)
-            return false;
-        if (maxSpeed != null && statsMap.get("speed") != null && statsMap.get("speed") > maxSpeed)
-            return false;
-
-        return true;
+    /**
+     * 카탈로그 레코드 → 응답 객체 (fields가 null이면 전체 DTO, 아니면 선택한 필드만)
+     */
+    private List<Object> toViews(List<CatalogPokemon> pokemons, PokemonFieldSet fields) {
+        List<Object> results = new ArrayList<>(pokemons.size());
+        for (CatalogPokemon pokemon : pokemons) {
+            results.add(fields != null ? fields.project(pokemon) : pokemon.toDTO());
+        }
+        return results;
     }
 
     // Private Helper Methods
@@ -339,121 +558,17 @@ public class PokemonService {
             String englishName = convertKoreanToEnglish(name);
             logger.info("PokéAPI 호출 시작: {} -> {}", name, englishName);
 
-            // 2단계: WebClient를 사용한 HTTP GET 요청 생성 (타임아웃 및 재시도 포함)
-            String response = webClient.get()
-                    .uri("/pokemon/{name}", englishName)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(10))  // 10초 타임아웃
-                    .retryWhen(reactor.util.retry.Retry.backoff(3, Duration.ofSeconds(1)))  // 3번 재시도
+            // 2단계: /pokemon 과 /pokemon-species 를 동시에 요청 (왕복 1회 수준)
+            //        species 문서는 한 번만 받아서 한글 이름/설명/세대/진화체인 ID를 모두 추출
+            reactor.util.function.Tuple2<String, String> responses = Mono.zip(
+                    fetchPokemonDocument(englishName),
+                    fetchSpeciesDocument(englishName))
                     .block();
 
             // 3단계: 응답이 null이 아닌지 확인
+            String response = responses != null ? responses.getT1() : null;
             if (response != null && !response.trim().isEmpty()) {
-                // 4단계: JSON 문자열을 타입 안전한 DTO로 변환
-                PokemonApiResponseDTO pokemonData = objectMapper.readValue(response, PokemonApiResponseDTO.class);
-                PokemonDTO pokemonDTO = new PokemonDTO();
-
-                // 기본정보 매핑 (null 체크 추가)
-                pokemonDTO.setPokemonId(pokemonData.getId() != null ? pokemonData.getId() : 0);
-                pokemonDTO.setName(pokemonData.getName() != null ? pokemonData.getName() : englishName);
-                pokemonDTO.setBaseExperience(pokemonData.getBaseExperience() != null ? pokemonData.getBaseExperience() : 0);
-                pokemonDTO.setHeight(pokemonData.getHeight() != null ? pokemonData.getHeight() : 0);
-                pokemonDTO.setWeight(pokemonData.getWeight() != null ? pokemonData.getWeight() : 0);
-
-                // 스프라이트Url 매핑 (null 허용)
-                if (pokemonData.getSprites() != null) {
-                    pokemonDTO.setSpriteUrl(pokemonData.getSprites().getFrontDefault());
-                    pokemonDTO.setShinySpriteUrl(pokemonData.getSprites().getFrontShiny());
-                } else {
-                    pokemonDTO.setSpriteUrl(null);
-                    pokemonDTO.setShinySpriteUrl(null);
-                }
-
-                // 타입 매핑 (영문 + 한글 타입)
-                List<String> typeNames = new ArrayList<>();
-                List<String> koreanTypeNames = new ArrayList<>();
-                if (pokemonData.getTypes() != null) {
-                    for (PokemonApiResponseDTO.TypeEntryDTO type : pokemonData.getTypes()) {
-                        if (type.getType() != null) {
-                            String englishType = type.getType().getName();
-                            String koreanType = convertEnglishTypeToKorean(englishType);
-                            
-                            typeNames.add(englishType);
-                            koreanTypeNames.add(koreanType);
-                        }
-                    }
-                }
-                pokemonDTO.setTypes(typeNames);
-                pokemonDTO.setKoreanTypes(koreanTypeNames);
-
-                // 능력치 정보 매핑
-                List<PokemonDTO.StatDTO> statDTOs = new ArrayList<>();
-                if (pokemonData.getStats() != null) {
-                    for (PokemonApiResponseDTO.StatEntryDTO stat : pokemonData.getStats()) {
-                        PokemonDTO.StatDTO statDTO = new PokemonDTO.StatDTO();
-                        statDTO.setBaseStat(stat.getBaseStat() != null ? stat.getBaseStat() : 0);
-                        statDTO.setEffort(stat.getEffort() != null ? stat.getEffort() : 0);
-
-                        if (stat.getStat() != null) {
-                            statDTO.setName(stat.getStat().getName());
-                        } else {
-                            statDTO.setName("unknown");
-                        }
-
-                        statDTOs.add(statDTO);
-                    }
-                }
-                pokemonDTO.setStats(statDTOs);
-
-                // 특성정보 매핑
-                List<String> abilityNames = new ArrayList<>();
-                if (pokemonData.getAbilities() != null) {
-                    for (PokemonApiResponseDTO.AbilityEntryDTO ability : pokemonData.getAbilities()) {
-                        if (ability.getAbility() != null) {
-                            abilityNames.add(ability.getAbility().getName());
-                        }
-                    }
-                }
-                pokemonDTO.setAbilities(abilityNames);
-
-                // 한글 이름과 설명 가져오기 (에러 처리 개선)
-                String koreanName = getPokemonKoreanName(englishName);
-                if (koreanName == null || koreanName.isEmpty()) {
-                    koreanName = englishName; // 한글 이름이 없으면 영문 이름 사용
-                }
-                pokemonDTO.setKoreanName(koreanName);
-                
-                String description = getPokemonDescription(englishName);
-                if (description == null || description.isEmpty()) {
-                    description = "설명 없음"; // 설명이 없으면 기본값 사용
-                }
-                pokemonDTO.setDescription(description);
-                
-                // 세대 정보 가져오기 (에러 처리 개선)
-                try {
-                    String speciesResponse = webClient.get()
-                            .uri("/pokemon-species/{name}", englishName)
-                            .retrieve()
-                            .bodyToMono(String.class)
-                            .timeout(Duration.ofSeconds(5))  // 더 짧은 타임아웃
-                            .retryWhen(reactor.util.retry.Retry.backoff(2, Duration.ofSeconds(1)))  // 2번 재시도
-                            .block();
-                    
-                    if (speciesResponse != null && !speciesResponse.trim().isEmpty()) {
-                        SpeciesDTO speciesData = objectMapper.readValue(speciesResponse, SpeciesDTO.class);
-                        if (speciesData.getGeneration() != null) {
-                            String generationName = speciesData.getGeneration().getName();
-                            int generationNumber = getGenerationNumber(generationName);
-                            logger.debug("포켓몬 {}의 세대: {} -> {}", englishName, generationName, generationNumber);
-                            pokemonDTO.setGeneration(generationNumber);
-                        }
-                    }
-                } catch (Exception e) {
-                    logger.warn("포켓몬 {}의 세대 정보 가져오기 실패: {}", englishName, e.getMessage());
-                    pokemonDTO.setGeneration(0); // 기본값 설정
-                }
-                
+                PokemonDTO pokemonDTO = parsePokemonDocuments(response, responses.getT2(), englishName);
                 logger.info("PokéAPI에서 {} 정보 성공적으로 가져옴", name);
                 return pokemonDTO;
             } else {
@@ -470,6 +585,152 @@ public class PokemonService {
         return null;
     }
 
+    /**
+     * /pokemon/{name} 원본 JSON 요청 (타임아웃 및 재시도 포함)
+     */
+    private Mono<String> fetchPokemonDocument(String englishName) {
+        return webClient.get()
+                .uri("/pokemon/{name}", englishName)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(Duration.ofSeconds(10))  // 10초 타임아웃
+                .retryWhen(reactor.util.retry.Retry.backoff(3, Duration.ofSeconds(1)));  // 3번 재시도
+    }
+
+    /**
+     * /pokemon-species/{name} 원본 JSON 요청 (실패해도 기본 정보는 저장할 수 있도록 빈 문자열로 대체)
+     */
+    private Mono<String> fetchSpeciesDocument(String englishName) {
+        return webClient.get()
+                .uri("/pokemon-species/{name}", englishName)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(Duration.ofSeconds(10))
+                .retryWhen(reactor.util.retry.Retry.backoff(2, Duration.ofSeconds(1)))  // 2번 재시도
+                .onErrorResume(e -> {
+                    logger.warn("Species API 호출 실패 - 포켓몬: {}, 오류: {}", englishName, e.getMessage());
+                    return Mono.just("");
+                })
+                .defaultIfEmpty("");
+    }
+
+    /**
+     * /pokemon, /pokemon-species 원본 JSON → PokemonDTO 변환 (HTTP 호출 없음)
+     *
+     * @param pokemonJson /pokemon 응답
+     * @param speciesJson /pokemon-species 응답 (없으면 빈 문자열)
+     * @param englishName 요청한 영문 이름 (응답에 이름이 없을 때 사용)
+     */
+    private PokemonDTO parsePokemonDocuments(String pokemonJson, String speciesJson, String englishName)
+            throws JsonProcessingException {
+        // JSON 문자열을 타입 안전한 DTO로 변환
+        PokemonApiResponseDTO pokemonData = objectMapper.readValue(pokemonJson, PokemonApiResponseDTO.class);
+        PokemonDTO pokemonDTO = new PokemonDTO();
+
+        // 기본정보 매핑 (null 체크 추가)
+        pokemonDTO.setPokemonId(pokemonData.getId() != null ? pokemonData.getId() : 0);
+        pokemonDTO.setName(pokemonData.getName() != null ? pokemonData.getName() : englishName);
+        pokemonDTO.setBaseExperience(pokemonData.getBaseExperience() != null ? pokemonData.getBaseExperience() : 0);
+        pokemonDTO.setHeight(pokemonData.getHeight() != null ? pokemonData.getHeight() : 0);
+        pokemonDTO.setWeight(pokemonData.getWeight() != null ? pokemonData.getWeight() : 0);
+
+        // 스프라이트Url 매핑 (null 허용)
+        if (pokemonData.getSprites() != null) {
+            pokemonDTO.setSpriteUrl(pokemonData.getSprites().getFrontDefault());
+            pokemonDTO.setShinySpriteUrl(pokemonData.getSprites().getFrontShiny());
+        } else {
+            pokemonDTO.setSpriteUrl(null);
+            pokemonDTO.setShinySpriteUrl(null);
+        }
+
+        // 타입 매핑 (영문 + 한글 타입)
+        List<String> typeNames = new ArrayList<>();
+        List<String> koreanTypeNames = new ArrayList<>();
+        if (pokemonData.getTypes() != null) {
+            for (PokemonApiResponseDTO.TypeEntryDTO type : pokemonData.getTypes()) {
+                if (type.getType() != null) {
+                    String englishType = type.getType().getName();
+                    String koreanType = convertEnglishTypeToKorean(englishType);
+                    
+                    typeNames.add(englishType);
+                    koreanTypeNames.add(koreanType);
+                }
+            }
+        }
+        pokemonDTO.setTypes(typeNames);
+        pokemonDTO.setKoreanTypes(koreanTypeNames);
+
+        // 능력치 정보 매핑
+        List<PokemonDTO.StatDTO> statDTOs = new ArrayList<>();
+        if (pokemonData.getStats() != null) {
+            for (PokemonApiResponseDTO.StatEntryDTO stat : pokemonData.getStats()) {
+                PokemonDTO.StatDTO statDTO = new PokemonDTO.StatDTO();
+                statDTO.setBaseStat(stat.getBaseStat() != null ? stat.getBaseStat() : 0);
+                statDTO.setEffort(stat.getEffort() != null ? stat.getEffort() : 0);
+
+                if (stat.getStat() != null) {
+                    statDTO.setName(stat.getStat().getName());
+                } else {
+                    statDTO.setName("unknown");
+                }
+
+                statDTOs.add(statDTO);
+            }
+        }
+        pokemonDTO.setStats(statDTOs);
+
+        // 특성정보 매핑
+        List<String> abilityNames = new ArrayList<>();
+        if (pokemonData.getAbilities() != null) {
+            for (PokemonApiResponseDTO.AbilityEntryDTO ability : pokemonData.getAbilities()) {
+                if (ability.getAbility() != null) {
+                    abilityNames.add(ability.getAbility().getName());
+                }
+            }
+        }
+        pokemonDTO.setAbilities(abilityNames);
+
+        // species 문서에서 한글 이름, 설명, 세대, 진화체인 ID 추출 (한 번만 파싱)
+        SpeciesDTO speciesData = null;
+        if (speciesJson != null && !speciesJson.trim().isEmpty()) {
+            try {
+                speciesData = objectMapper.readValue(speciesJson, SpeciesDTO.class);
+            } catch (Exception e) {
+                logger.warn("포켓몬 {}의 species 정보 파싱 실패: {}", englishName, e.getMessage());
+            }
+        }
+
+        String koreanName = extractKoreanName(speciesData);
+        if (koreanName == null || koreanName.isEmpty()) {
+            koreanName = englishName; // 한글 이름이 없으면 영문 이름 사용
+        }
+        pokemonDTO.setKoreanName(koreanName);
+
+        String description = extractDescription(speciesData);
+        if (description == null || description.isEmpty()) {
+            description = "설명 없음"; // 설명이 없으면 기본값 사용
+        }
+        pokemonDTO.setDescription(description);
+
+        if (speciesData == null) {
+            pokemonDTO.setGeneration(0); // 기본값 설정
+        } else if (speciesData.getGeneration() != null) {
+            String generationName = speciesData.getGeneration().getName();
+            int generationNumber = getGenerationNumber(generationName);
+            logger.debug("포켓몬 {}의 세대: {} -> {}", englishName, generationName, generationNumber);
+            pokemonDTO.setGeneration(generationNumber);
+        }
+
+        // 진화체인 ID는 진화체인 조회 때 species를 다시 받지 않도록 기억
+        // (포켓몬 ID는 다른 폼(10001~)에서 species ID와 다르므로 species 문서의 ID/이름만 등록)
+        Integer evolutionChainId = extractEvolutionChainId(speciesData);
+        if (evolutionChainId != null) {
+            evolutionChainStore.registerSpecies(speciesData.getId(), speciesData.getName(), evolutionChainId);
+        }
+
+        return pokemonDTO;
+    }
+
     /**
      * Entity를 DTO로 변환 (데이터 계층 분리)
      * 
@@ -488,7 +749,7 @@ public class PokemonService {
         dto.setTypes(convertJsonToList(entity.getTypes()));
         dto.setKoreanTypes(convertJsonToList(entity.getKoreanTypes()));
         dto.setAbilities(convertJsonToList(entity.getAbilities()));
-        dto.setStats(convertJsonToStats(entity.getStats()));
+        dto.setStats(PokemonStatMapping.toStats(entity));
         dto.setSpriteUrl(entity.getSpriteUrl());
         dto.setShinySpriteUrl(entity.getShinySpriteUrl());
         dto.setOfficialArtworkUrl(entity.getOfficialArtworkUrl()); // 추가
@@ -514,12 +775,13 @@ public class PokemonService {
         pokemon.setTypes(convertListToJson(dto.getTypes()));
         pokemon.setKoreanTypes(convertListToJson(dto.getKoreanTypes()));
         pokemon.setAbilities(convertListToJson(dto.getAbilities()));
-        pokemon.setStats(convertStatsToJson(dto.getStats()));
+        PokemonStatMapping.apply(dto.getStats(), pokemon);
         pokemon.setSpriteUrl(dto.getSpriteUrl());
         pokemon.setShinySpriteUrl(dto.getShinySpriteUrl());
         pokemon.setOfficialArtworkUrl(dto.getOfficialArtworkUrl());
         pokemon.setDescription(dto.getDescription());
         pokemon.setGeneration(dto.getGeneration());
+        pokemon.setEvolutionChainId(evolutionChainStore.findChainIdBySpeciesId(dto.getPokemonId()));
        
         // 디버깅용: Entity 값 확인
         logger.debug("[convertToEntity] Entity 값: baseExp={}, height={}, weight={}, name={}, generation={}",
@@ -537,8 +799,33 @@ public class PokemonService {
         // 디버깅용: DB 저장 전 DTO 값 확인
         logger.debug("[savePokemon] DB 저장 전 DTO 값: baseExp={}, height={}, weight={}, name={}",
             dto.getBaseExperience(), dto.getHeight(), dto.getWeight(), dto.getName());
+        // 다른 요청이 먼저 저장했으면 기존 행 사용 (pokemon_id 유니크 제약 위반 방지)
+        Optional<Pokemon> existing = dto.getPokemonId() != null
+                ? pokemonRepository.findByPokemonId(dto.getPokemonId())
+                : Optional.empty();
+        if (existing.isPresent()) {
+            logger.debug("[savePokemon] 이미 저장된 포켓몬: pokemonId={}", dto.getPokemonId());
+            if (pokemonCatalog.current().findByPokemonId(dto.getPokemonId()) == null) {
+                pokemonCatalog.publish(existing.get()); // 카탈로그에 없을 때만 반영 (버전 유지)
+            }
+            return existing.get();
+        }
+
         Pokemon pokemon = convertToEntity(dto); // DTO → Entity 변환
-        return pokemonRepository.save(pokemon); // JPA를 통한 DB 저장
+        Pokemon saved;
+        try {
+            saved = pokemonRepository.save(pokemon); // JPA를 통한 DB 저장
+        } catch (DataIntegrityViolationException e) {
+            // 확인과 저장 사이에 다른 요청(예: 영문/한글 이름으로 동시 조회)이 먼저 저장한 경우
+            logger.debug("[savePokemon] 동시 저장 충돌, 기존 행 사용: pokemonId={}", dto.getPokemonId());
+            saved = pokemonRepository.findByPokemonId(dto.getPokemonId()).orElseThrow(() -> e);
+        }
+        if (saved.getPokemonId() != null) {
+            pokemonBatchRepository.syncTypes(Collections.singletonList(saved.getPokemonId())); // pokemon_type 행
+        }
+        pokemonCatalog.publish(saved); // 메모리 카탈로그에 반영
+        pokemonNameFilter.register(saved.getName(), saved.getKoreanName()); // 부정 캐시 해제
+        return saved;
     }
 
     /**
@@ -572,121 +859,53 @@ public class PokemonService {
     }
 
     /**
-     * StatDTO 리스트를 JSON 문자열로 직렬화
-     * 
-     * @param stats StatDTO 리스트
-     * @return JSON 문자열 또는 "[]" (에러 시)
+     * species 문서에서 설명 추출 (한국어 우선, 없으면 영어)
      */
-    private String convertStatsToJson(List<PokemonDTO.StatDTO> stats) {
-        try {
-            return objectMapper.writeValueAsString(stats);
-        } catch (Exception e) {
-            return "[]";
+    private String extractDescription(SpeciesDTO speciesData) {
+        if (speciesData == null || speciesData.getFlavorTextEntries() == null) {
+            return null;
         }
-    }
-
-    /**
-     * JSON 문자열을 StatDTO 리스트로 역직렬화
-     * 
-     * @param json JSON 문자열
-     * @return StatDTO 리스트 또는 빈 리스트 (에러 시)
-     */
-    private List<PokemonDTO.StatDTO> convertJsonToStats(String json) {
-        try {
-            // 복잡한 제네릭 타입 (List<StatDTO>) 정보 생성
-            return objectMapper.readValue(json,
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, PokemonDTO.StatDTO.class));
-        } catch (Exception e) {
-            return new ArrayList<>();
+        String enDescription = null;
+        for (SpeciesDTO.FlavorTextEntryDTO flavorText : speciesData.getFlavorTextEntries()) {
+            if (flavorText.getLanguage() != null) {
+                String languageName = flavorText.getLanguage().getName();
+                String text = flavorText.getFlavorText();
+
+                if ("ko".equals(languageName)) {
+                    return text;
+                } else if ("en".equals(languageName) && enDescription == null) {
+                    enDescription = text;
+                }
+            }
         }
+        return enDescription;
     }
 
     /**
-     * PokeAPI에서 포켓몬 설명을 가져오는 메서드
-     * 
-     * @param name 포켓몬 이름(예: "pikacu", "bulbasaur")
-     * @return 포켓몬 설명 (한국어) 또는 빈 문자열(실패시)
+     * species 문서에서 한글 이름 추출
      */
-    private String getPokemonDescription(String name) {
-        try {
-            logger.debug("Species API 호출 시작: {}", name);
-
-            String response = webClient.get()
-                    .uri("/pokemon-species/{name}", name)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(15))  // 15초로 증가
-                    .retryWhen(reactor.util.retry.Retry.backoff(3, Duration.ofSeconds(2)))  // 3번 재시도, 2초 간격
-                    .block();
-
-            if (response != null && !response.trim().isEmpty()) {
-                SpeciesDTO speciesData = objectMapper.readValue(response, SpeciesDTO.class);
-
-                // 3단계 flavor_text_entries 추출
-                if (speciesData.getFlavorTextEntries() != null) {
-                    String koDescription = null;
-                    String enDescription = null;
-
-                    for (SpeciesDTO.FlavorTextEntryDTO flavorText : speciesData.getFlavorTextEntries()) {
-                        if (flavorText.getLanguage() != null) {
-                            String languageName = flavorText.getLanguage().getName();
-                            String text = flavorText.getFlavorText();
-
-                            if ("ko".equals(languageName)) {
-                                koDescription = text;
-                                break;
-                            } else if ("en".equals(languageName) && enDescription == null) {
-                                enDescription = text;
-                            }
-                        }
-                    }
-
-                    if (koDescription != null) {
-                        logger.debug("Species API에서 {} 한국어 설명 가져옴 성공", name);
-                        return koDescription;
-                    } else if (enDescription != null) {
-                        logger.debug("Species API에서 {} 영어 설명 가져옴 성공", name);
-                        return enDescription;
-                    }
-                }
+    private String extractKoreanName(SpeciesDTO speciesData) {
+        if (speciesData == null || speciesData.getNames() == null) {
+            return null;
+        }
+        for (SpeciesDTO.NameEntryDTO nameEntry : speciesData.getNames()) {
+            if (nameEntry.getLanguage() != null && "ko".equals(nameEntry.getLanguage().getName())) {
+                return nameEntry.getName();
             }
-        } catch (Exception e) {
-            logger.warn("Species API 호출 실패 - 포켓몬: {}, 오류: {}", name, e.getMessage());
         }
-        return "설명 없음";
+        return null;
     }
 
     /**
-     * Species API에서 포켓몬 한글 이름만 가져오는 메서드
-     * 
+     * species 문서에서 진화체인 ID 추출 (URL 마지막 경로)
      */
-
-    private String getPokemonKoreanName(String name) {
-        try {
-            String speciesResponse = webClient.get()
-                    .uri("/pokemon-species/{name}", name)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(15))  // 15초로 증가
-                    .retryWhen(reactor.util.retry.Retry.backoff(3, Duration.ofSeconds(2)))  // 3번 재시도, 2초 간격
-                    .block();
-
-            if (speciesResponse != null && !speciesResponse.trim().isEmpty()) {
-                SpeciesDTO speciesData = objectMapper.readValue(speciesResponse, SpeciesDTO.class);
-
-                // 한글이름 추출
-                if (speciesData.getNames() != null) {
-                    for (SpeciesDTO.NameEntryDTO nameEntry : speciesData.getNames()) {
-                        if (nameEntry.getLanguage() != null && "ko".equals(nameEntry.getLanguage().getName())) {
-                            return nameEntry.getName();
-                            }
-                    }
-                }
-            }
-        } catch (Exception e) {
-            logger.warn("Species API 호출 실패 - 포켓몬: {}, 오류: {}", name, e.getMessage());
+    private Integer extractEvolutionChainId(SpeciesDTO speciesData) {
+        if (speciesData == null || speciesData.getEvolutionChain() == null
+                || speciesData.getEvolutionChain().getUrl() == null) {
+            return null;
         }
-        return "";
+        String[] urlParts = speciesData.getEvolutionChain().getUrl().split("/");
+        return Integer.parseInt(urlParts[urlParts.length - 1]);
     }
 
     /*
@@ -703,14 +922,14 @@ public class PokemonService {
             return new ArrayList<>();
         }
         try {
-            String searchType = type.trim();
-            if (isEnglishType(searchType)) {
-                searchType = convertEnglishTypeToKorean(searchType);
+            PokemonType pokemonType = PokemonType.fromName(type);
+            if (pokemonType == null) {
+                logger.warn("알 수 없는 타입입니다: {}", type);
+                return new ArrayList<>();
             }
-            List<Pokemon> pokemons = pokemonRepository.findByKoreanTypeContaining(searchType);
-            List<PokemonDTO> result = pokemons.stream()
-                            .map(this::convertToDTO)
-                            .collect(Collectors.toList());
+            CatalogSnapshot catalog = pokemonCatalog.current();
+            long[] matches = catalog.getTypeIndex().matching(pokemonType, null);
+            List<PokemonDTO> result = toDTOs(catalog, matches);
             logger.info("타입별 포켓몬 조회 결과 : {} 건", result.size());
             return result;
         } catch (Exception e) {
@@ -719,425 +938,39 @@ public class PokemonService {
             
         }
     }
-    /**
- * 영문 타입인지 확인
- */
-private boolean isEnglishType(String type) {
-    Set<String> englishTypes = Set.of(
-        "normal", "fire", "water", "electric", "grass", "ice", "fighting",
-        "poison", "ground", "flying", "psychic", "bug", "rock", "ghost",
-        "dragon", "dark", "steel", "fairy"
-    );
-    return englishTypes.contains(type.toLowerCase());
-}
 
 
     /**
-     * 한글 포켓몬 이름을 영문 이름으로 동적 변환 (DB 캐싱 + 외부 API)
+     * 한글 포켓몬 이름을 영문 이름으로 변환 (이름 사전 → DB 매핑 테이블)
      */
     private String convertKoreanToEnglish(String koreanName) {
+        // 1단계: 시드로 만든 이름 사전 (메모리 이진 탐색)
+        String englishName = PokemonNameDictionary.englishNameOf(koreanName);
+        if (englishName != null) {
+            return englishName;
+        }
+
         try {
-            // 1단계: DB 캐시에서 먼저 조회
+            // 2단계: 사전에 없으면 DB 매핑 테이블 조회
             Optional<PokemonNameMapping> cachedMapping = pokemonNameMappingRepository.findByKoreanName(koreanName);
             if (cachedMapping.isPresent()) {
-                logger.info("DB 캐시에서 한글 이름 변환 성공: {} -> {}", koreanName, cachedMapping.get().getEnglishName());
+                logger.info("DB 매핑에서 한글 이름 변환 성공: {} -> {}", koreanName, cachedMapping.get().getEnglishName());
                 return cachedMapping.get().getEnglishName();
             }
-
-            // 2단계: 캐시에 없으면 외부 API로 동적 검색
-            logger.info("DB 캐시에 없어서 외부 API로 한글 이름 변환 시작: {}", koreanName);
-            String englishName = searchEnglishNameFromApi(koreanName);
-            
-            if (englishName != null && !englishName.equals(koreanName)) {
-                // 3단계: 찾은 매핑을 DB에 캐싱
-                saveNameMapping(koreanName, englishName);
-                logger.info("외부 API에서 한글 이름 변환 성공 및 캐싱: {} -> {}", koreanName, englishName);
-                return englishName;
-            }
-            
         } catch (Exception e) {
             logger.error("한글 이름 변환 실패: {}, 오류: {}", koreanName, e.getMessage(), e);
         }
-        
-        // 4단계: 변환 실패시 원본 반환
-        logger.warn("한글 이름 변환 실패, 원본 반환: {}", koreanName);
-        return koreanName;
-    }
-
-    /**
-     * 외부 API를 통해 한글 이름으로 영문 이름 검색 (1세대 포켓몬만)
-     */
-    private String searchEnglishNameFromApi(String koreanName) {
-        // 1세대 포켓몬 한글-영문 매핑 (임시로 하드코딩)
-        Map<String, String> firstGenMapping = new HashMap<>();
-        firstGenMapping.put("꼬부기", "squirtle");
-        firstGenMapping.put("피카츄", "pikachu");
-        firstGenMapping.put("파이리", "charmander");
-        firstGenMapping.put("이상해씨", "bulbasaur");
-        firstGenMapping.put("라이츄", "raichu");
-        firstGenMapping.put("구구", "rattata");
-        firstGenMapping.put("레트라", "raticate");
-        firstGenMapping.put("아보", "ekans");
-        firstGenMapping.put("아보크", "arbok");
-        firstGenMapping.put("모래두지", "sandshrew");
-        firstGenMapping.put("고지", "sandslash");
-        firstGenMapping.put("니드런♀", "nidoran-f");
-        firstGenMapping.put("니드리나", "nidorina");
-        firstGenMapping.put("니드퀸", "nidoqueen");
-        firstGenMapping.put("니드런♂", "nidoran-m");
-        firstGenMapping.put("니드리노", "nidorino");
-        firstGenMapping.put("니드킹", "nidoking");
-        firstGenMapping.put("삐", "clefairy");
-        firstGenMapping.put("픽시", "clefable");
-        firstGenMapping.put("주뱃", "zubat");
-        firstGenMapping.put("골뱃", "golbat");
-        firstGenMapping.put("뚜벅쵸", "oddish");
-        firstGenMapping.put("냄새꼬", "gloom");
-        firstGenMapping.put("라플레시아", "vileplume");
-        firstGenMapping.put("파라스", "paras");
-        firstGenMapping.put("파라섹트", "parasect");
-        firstGenMapping.put("콘팡", "venonat");
-        firstGenMapping.put("도나리", "venomoth");
-        firstGenMapping.put("디그다", "diglett");
-        firstGenMapping.put("닥트리오", "dugtrio");
-        firstGenMapping.put("나옹", "meowth");
-        firstGenMapping.put("페르시온", "persian");
-        firstGenMapping.put("고라파덕", "psyduck");
-        firstGenMapping.put("골덕", "golduck");
-        firstGenMapping.put("망키", "mankey");
-        firstGenMapping.put("성원숭이", "primeape");
-        firstGenMapping.put("가디", "growlithe");
-        firstGenMapping.put("윈디", "arcanine");
-        firstGenMapping.put("발챙이", "poliwag");
-        firstGenMapping.put("슈륙챙이", "poliwhirl");
-        firstGenMapping.put("강챙이", "poliwrath");
-        firstGenMapping.put("케이시", "abra");
-        firstGenMapping.put("윤겔라", "kadabra");
-        firstGenMapping.put("후딘", "alakazam");
-        firstGenMapping.put("근육몬", "machop");
-        firstGenMapping.put("근육통", "machoke");
-        firstGenMapping.put("괴력몬", "machamp");
-        firstGenMapping.put("캐이시", "bellsprout");
-        firstGenMapping.put("우츠동", "weepinbell");
-        firstGenMapping.put("우츠보트", "victreebel");
-        firstGenMapping.put("딱충이", "tentacool");
-        firstGenMapping.put("슬리프", "tentacruel");
-        firstGenMapping.put("구렁이", "geodude");
-        firstGenMapping.put("데구리", "graveler");
-        firstGenMapping.put("딱구리", "golem");
-        firstGenMapping.put("포니타", "ponyta");
-        firstGenMapping.put("날쌩마", "rapidash");
-        firstGenMapping.put("야돈", "slowpoke");
-        firstGenMapping.put("야도란", "slowbro");
-        firstGenMapping.put("코일", "magnemite");
-        firstGenMapping.put("레어코일", "magneton");
-        firstGenMapping.put("파오리", "farfetchd");
-        firstGenMapping.put("두두", "doduo");
-        firstGenMapping.put("두트리오", "dodrio");
-        firstGenMapping.put("쥬쥬", "seel");
-        firstGenMapping.put("쥬레곤", "dewgong");
-        firstGenMapping.put("질뻐기", "grimer");
-        firstGenMapping.put("셀러", "shellder");
-        firstGenMapping.put("파르셀", "cloyster");
-        firstGenMapping.put("고오스", "gastly");
-        firstGenMapping.put("고우스트", "haunter");
-        firstGenMapping.put("팬텀", "gengar");
-        firstGenMapping.put("롱스톤", "onix");
-        firstGenMapping.put("슬리프", "drowzee");
-        firstGenMapping.put("슬리퍼", "hypno");
-        firstGenMapping.put("크랩", "krabby");
-        firstGenMapping.put("킹크랩", "kingler");
-        firstGenMapping.put("찌리리공", "voltorb");
-        firstGenMapping.put("붐볼", "electrode");
-        firstGenMapping.put("아라리", "exeggcute");
-        firstGenMapping.put("나시", "exeggutor");
-        firstGenMapping.put("탕구리", "cubone");
-        firstGenMapping.put("텅구리", "marowak");
-        firstGenMapping.put("시라소몬", "hitmonlee");
-        firstGenMapping.put("홍수몬", "hitmonchan");
-        firstGenMapping.put("내루미", "lickitung");
-        firstGenMapping.put("또가스", "koffing");
-        firstGenMapping.put("또도가스", "weezing");
-        firstGenMapping.put("뿔카노", "rhyhorn");
-        firstGenMapping.put("코뿌리", "rhydon");
-        firstGenMapping.put("럭키", "chansey");
-        firstGenMapping.put("덩구리", "tangela");
-        firstGenMapping.put("캥카", "kangaskhan");
-        firstGenMapping.put("쏘드라", "horsea");
-        firstGenMapping.put("시드라", "seadra");
-        firstGenMapping.put("콘치", "goldeen");
-        firstGenMapping.put("왕콘치", "seaking");
-        firstGenMapping.put("별가사리", "staryu");
-        firstGenMapping.put("아쿠스타", "starmie");
-        firstGenMapping.put("마임맨", "mr-mime");
-        firstGenMapping.put("스라크", "scyther");
-        firstGenMapping.put("루주라", "jynx");
-        firstGenMapping.put("에레브", "electabuzz");
-        firstGenMapping.put("마그마", "magmar");
-        firstGenMapping.put("쁘사이저", "pinsir");
-        firstGenMapping.put("켄타로스", "tauros");
-        firstGenMapping.put("잉어킹", "magikarp");
-        firstGenMapping.put("갸라도스", "gyarados");
-        firstGenMapping.put("라프라스", "lapras");
-        firstGenMapping.put("메타몽", "ditto");
-        firstGenMapping.put("이브이", "eevee");
-        firstGenMapping.put("샤미드", "vaporeon");
-        firstGenMapping.put("쥬피썬더", "jolteon");
-        firstGenMapping.put("부스터", "flareon");
-        firstGenMapping.put("폴리곤", "porygon");
-        firstGenMapping.put("암나이트", "omanyte");
-        firstGenMapping.put("암스타", "omastar");
-        firstGenMapping.put("투구", "kabuto");
-        firstGenMapping.put("투구푸스", "kabutops");
-        firstGenMapping.put("프테라", "aerodactyl");
-        firstGenMapping.put("잠만보", "snorlax");
-        firstGenMapping.put("프리져", "articuno");
-        firstGenMapping.put("썬더", "zapdos");
-        firstGenMapping.put("파이어", "moltres");
-        firstGenMapping.put("미뇽", "dratini");
-        firstGenMapping.put("신뇽", "dragonair");
-        firstGenMapping.put("망나뇽", "dragonite");
-        firstGenMapping.put("뮤츠", "mewtwo");
-        firstGenMapping.put("뮤", "mew");
-
-        return firstGenMapping.get(koreanName);
-    }
-
-    /**
-     * 이름 매핑을 DB에 저장 (캐싱)
-     */
-    private void saveNameMapping(String koreanName, String englishName) {
-        try {
-            // 포켓몬 ID 가져오기
-            Integer pokemonId = getPokemonIdFromName(englishName);
-            
-            if (pokemonId != null) {
-                PokemonNameMapping mapping = new PokemonNameMapping(koreanName, englishName, pokemonId);
-                pokemonNameMappingRepository.save(mapping);
-                logger.info("이름 매핑 캐싱 완료: {} -> {} (ID: {})", koreanName, englishName, pokemonId);
-            }
-        } catch (Exception e) {
-            logger.error("이름 매핑 저장 실패: {} -> {}, 오류: {}", koreanName, englishName, e.getMessage());
-        }
-    }
-
-    /**
-     * 영문 이름으로 포켓몬 ID 가져오기
-     */
-    private Integer getPokemonIdFromName(String englishName) {
-        try {
-            String response = webClient.get()
-                    .uri("/pokemon/{name}", englishName)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
 
-            if (response != null) {
-                logger.debug("Pokemon API 응답: {}", response.substring(0, Math.min(200, response.length())));
-                JsonNode root = objectMapper.readTree(response);
-                JsonNode idNode = root.get("id");
-                if (idNode != null) {
-                    return idNode.asInt();
-                }
-            }
-        } catch (Exception e) {
-            logger.error("포켓몬 ID 조회 실패: {}, 오류: {}", englishName, e.getMessage(), e);
-        }
-        return null;
-    }
-
-    /**
-     * 전체 포켓몬 목록을 DB에 미리 저장 (초기화용)
-     */
-    @PostConstruct
-    public void initializePokemonData() {
-        try {
-            // 이미 데이터가 있으면 스킵
-            if (pokemonNameMappingRepository.count() > 0) {
-                logger.info("이미 포켓몬 데이터가 초기화되어 있습니다. 스킵합니다.");
-                return;
-            }
-
-            logger.info("포켓몬 데이터 초기화 시작...");
-            
-            // 1세대 포켓몬 151마리 데이터 저장
-            Map<String, String> firstGenMapping = new HashMap<>();
-            firstGenMapping.put("꼬부기", "squirtle");
-            firstGenMapping.put("피카츄", "pikachu");
-            firstGenMapping.put("파이리", "charmander");
-            firstGenMapping.put("이상해씨", "bulbasaur");
-            firstGenMapping.put("라이츄", "raichu");
-            firstGenMapping.put("구구", "rattata");
-            firstGenMapping.put("레트라", "raticate");
-            firstGenMapping.put("아보", "ekans");
-            firstGenMapping.put("아보크", "arbok");
-            firstGenMapping.put("모래두지", "sandshrew");
-            firstGenMapping.put("고지", "sandslash");
-            firstGenMapping.put("니드런♀", "nidoran-f");
-            firstGenMapping.put("니드리나", "nidorina");
-            firstGenMapping.put("니드퀸", "nidoqueen");
-            firstGenMapping.put("니드런♂", "nidoran-m");
-            firstGenMapping.put("니드리노", "nidorino");
-            firstGenMapping.put("니드킹", "nidoking");
-            firstGenMapping.put("삐", "clefairy");
-            firstGenMapping.put("픽시", "clefable");
-            firstGenMapping.put("주뱃", "zubat");
-            firstGenMapping.put("골뱃", "golbat");
-            firstGenMapping.put("뚜벅쵸", "oddish");
-            firstGenMapping.put("냄새꼬", "gloom");
-            firstGenMapping.put("라플레시아", "vileplume");
-            firstGenMapping.put("파라스", "paras");
-            firstGenMapping.put("파라섹트", "parasect");
-            firstGenMapping.put("콘팡", "venonat");
-            firstGenMapping.put("도나리", "venomoth");
-            firstGenMapping.put("디그다", "diglett");
-            firstGenMapping.put("닥트리오", "dugtrio");
-            firstGenMapping.put("나옹", "meowth");
-            firstGenMapping.put("페르시온", "persian");
-            firstGenMapping.put("고라파덕", "psyduck");
-            firstGenMapping.put("골덕", "golduck");
-            firstGenMapping.put("망키", "mankey");
-            firstGenMapping.put("성원숭이", "primeape");
-            firstGenMapping.put("가디", "growlithe");
-            firstGenMapping.put("윈디", "arcanine");
-            firstGenMapping.put("발챙이", "poliwag");
-            firstGenMapping.put("슈륙챙이", "poliwhirl");
-            firstGenMapping.put("강챙이", "poliwrath");
-            firstGenMapping.put("케이시", "abra");
-            firstGenMapping.put("윤겔라", "kadabra");
-            firstGenMapping.put("후딘", "alakazam");
-            firstGenMapping.put("근육몬", "machop");
-            firstGenMapping.put("근육통", "machoke");
-            firstGenMapping.put("괴력몬", "machamp");
-            firstGenMapping.put("캐이시", "bellsprout");
-            firstGenMapping.put("우츠동", "weepinbell");
-            firstGenMapping.put("우츠보트", "victreebel");
-            firstGenMapping.put("딱충이", "tentacool");
-            firstGenMapping.put("슬리프", "tentacruel");
-            firstGenMapping.put("구렁이", "geodude");
-            firstGenMapping.put("데구리", "graveler");
-            firstGenMapping.put("딱구리", "golem");
-            firstGenMapping.put("포니타", "ponyta");
-            firstGenMapping.put("날쌩마", "rapidash");
-            firstGenMapping.put("야돈", "slowpoke");
-            firstGenMapping.put("야도란", "slowbro");
-            firstGenMapping.put("코일", "magnemite");
-            firstGenMapping.put("레어코일", "magneton");
-            firstGenMapping.put("파오리", "farfetchd");
-            firstGenMapping.put("두두", "doduo");
-            firstGenMapping.put("두트리오", "dodrio");
-            firstGenMapping.put("쥬쥬", "seel");
-            firstGenMapping.put("쥬레곤", "dewgong");
-            firstGenMapping.put("질뻐기", "grimer");
-            firstGenMapping.put("셀러", "shellder");
-            firstGenMapping.put("파르셀", "cloyster");
-            firstGenMapping.put("고오스", "gastly");
-            firstGenMapping.put("고우스트", "haunter");
-            firstGenMapping.put("팬텀", "gengar");
-            firstGenMapping.put("롱스톤", "onix");
-            firstGenMapping.put("슬리프", "drowzee");
-            firstGenMapping.put("슬리퍼", "hypno");
-            firstGenMapping.put("크랩", "krabby");
-            firstGenMapping.put("킹크랩", "kingler");
-            firstGenMapping.put("찌리리공", "voltorb");
-            firstGenMapping.put("붐볼", "electrode");
-            firstGenMapping.put("아라리", "exeggcute");
-            firstGenMapping.put("나시", "exeggutor");
-            firstGenMapping.put("탕구리", "cubone");
-            firstGenMapping.put("텅구리", "marowak");
-            firstGenMapping.put("시라소몬", "hitmonlee");
-            firstGenMapping.put("홍수몬", "hitmonchan");
-            firstGenMapping.put("내루미", "lickitung");
-            firstGenMapping.put("또가스", "koffing");
-            firstGenMapping.put("또도가스", "weezing");
-            firstGenMapping.put("뿔카노", "rhyhorn");
-            firstGenMapping.put("코뿌리", "rhydon");
-            firstGenMapping.put("럭키", "chansey");
-            firstGenMapping.put("덩구리", "tangela");
-            firstGenMapping.put("캥카", "kangaskhan");
-            firstGenMapping.put("쏘드라", "horsea");
-            firstGenMapping.put("시드라", "seadra");
-            firstGenMapping.put("콘치", "goldeen");
-            firstGenMapping.put("왕콘치", "seaking");
-            firstGenMapping.put("별가사리", "staryu");
-            firstGenMapping.put("아쿠스타", "starmie");
-            firstGenMapping.put("마임맨", "mr-mime");
-            firstGenMapping.put("스라크", "scyther");
-            firstGenMapping.put("루주라", "jynx");
-            firstGenMapping.put("에레브", "electabuzz");
-            firstGenMapping.put("마그마", "magmar");
-            firstGenMapping.put("쁘사이저", "pinsir");
-            firstGenMapping.put("켄타로스", "tauros");
-            firstGenMapping.put("잉어킹", "magikarp");
-            firstGenMapping.put("갸라도스", "gyarados");
-            firstGenMapping.put("라프라스", "lapras");
-            firstGenMapping.put("메타몽", "ditto");
-            firstGenMapping.put("이브이", "eevee");
-            firstGenMapping.put("샤미드", "vaporeon");
-            firstGenMapping.put("쥬피썬더", "jolteon");
-            firstGenMapping.put("부스터", "flareon");
-            firstGenMapping.put("폴리곤", "porygon");
-            firstGenMapping.put("암나이트", "omanyte");
-            firstGenMapping.put("암스타", "omastar");
-            firstGenMapping.put("투구", "kabuto");
-            firstGenMapping.put("투구푸스", "kabutops");
-            firstGenMapping.put("프테라", "aerodactyl");
-            firstGenMapping.put("잠만보", "snorlax");
-            firstGenMapping.put("프리져", "articuno");
-            firstGenMapping.put("썬더", "zapdos");
-            firstGenMapping.put("파이어", "moltres");
-            firstGenMapping.put("미뇽", "dratini");
-            firstGenMapping.put("신뇽", "dragonair");
-            firstGenMapping.put("망나뇽", "dragonite");
-            firstGenMapping.put("뮤츠", "mewtwo");
-            firstGenMapping.put("뮤", "mew");
-
-            // DB에 저장
-            for (Map.Entry<String, String> entry : firstGenMapping.entrySet()) {
-                String koreanName = entry.getKey();
-                String englishName = entry.getValue();
-                
-                // 포켓몬 ID 가져오기
-                Integer pokemonId = getPokemonIdFromName(englishName);
-                if (pokemonId != null) {
-                    PokemonNameMapping mapping = new PokemonNameMapping(koreanName, englishName, pokemonId);
-                    pokemonNameMappingRepository.save(mapping);
-                    logger.debug("포켓몬 매핑 저장: {} -> {} (ID: {})", koreanName, englishName, pokemonId);
-                }
-            }
-            
-            logger.info("포켓몬 데이터 초기화 완료: {} 마리", pokemonNameMappingRepository.count());
-            
-        } catch (Exception e) {
-            logger.error("포켓몬 데이터 초기화 실패: {}", e.getMessage(), e);
-        }
+        // 3단계: 변환 실패시 원본 반환 (영문 이름 입력 등)
+        return koreanName;
     }
 
     /**
      * 영문 타입을 한글 타입으로 변환
      */
     private String convertEnglishTypeToKorean(String englishType) {
-        Map<String, String> typeMapping = new HashMap<>();
-        typeMapping.put("normal", "노말");
-        typeMapping.put("fire", "불꽃");
-        typeMapping.put("water", "물");
-        typeMapping.put("electric", "전기");
-        typeMapping.put("grass", "풀");
-        typeMapping.put("ice", "얼음");
-        typeMapping.put("fighting", "격투");
-        typeMapping.put("poison", "독");
-        typeMapping.put("ground", "땅");
-        typeMapping.put("flying", "비행");
-        typeMapping.put("psychic", "에스퍼");
-        typeMapping.put("bug", "벌레");
-        typeMapping.put("rock", "바위");
-        typeMapping.put("ghost", "고스트");
-        typeMapping.put("dragon", "드래곤");
-        typeMapping.put("dark", "악");
-        typeMapping.put("steel", "강철");
-        typeMapping.put("fairy", "페어리");
-
-        return typeMapping.getOrDefault(englishType, englishType);
+        PokemonType type = PokemonType.fromName(englishType);
+        return type != null ? type.getKoreanName() : englishType;
     }
 
     /**
@@ -1149,13 +982,13 @@ private boolean isEnglishType(String type) {
     public EvolutionDTO getEvolutionChain(String name) {
         
         try {
-            // 1단계: DB에서 한글명으로 포켓몬 조회
-            Optional<Pokemon> pokemonFromDB = pokemonRepository.findByKoreanName(name);
+            // 1단계: 카탈로그에서 한글명으로 포켓몬 조회
+            CatalogPokemon pokemonFromCatalog = pokemonCatalog.current().findByKoreanName(name);
             String englishName = name; // 기본값은 입력된 이름
             
-            if (pokemonFromDB.isPresent()) {
-                // DB에서 찾은 경우 영어명 사용
-                englishName = pokemonFromDB.get().getName();
+            if (pokemonFromCatalog != null) {
+                // 카탈로그에서 찾은 경우 영어명 사용
+                englishName = pokemonFromCatalog.getName();
                 logger.info("DB에서 한글명으로 포켓몬 찾음: '{}' -> '{}'", name, englishName);
             } else {
                 // DB에서 못 찾은 경우 한글-영문 변환 시도
@@ -1163,19 +996,26 @@ private boolean isEnglishType(String type) {
                 logger.info("DB에서 못 찾아서 변환 시도: '{}' -> '{}'", name, englishName);
             }
             
-            // 2단계: 포켓몬 species 정보 조회하여 진화체인 ID 찾기
-            Integer evolutionChainId = getEvolutionChainID(englishName);
+            // 2단계: 로컬 색인에서 진화체인 ID 찾기 (없을 때만 species 조회)
+            Integer pokemonId = pokemonFromCatalog != null ? pokemonFromCatalog.getPokemonId() : null;
+            Integer evolutionChainId = findLocalEvolutionChainId(pokemonId, englishName);
+            if (evolutionChainId == null) {
+                evolutionChainId = getEvolutionChainID(englishName);
+            }
 
             if (evolutionChainId == null) {
                 logger.warn("포켓몬'{}' 의 진화체인 ID를 찾을 수 없습니다", name);
                 return null;
             }
 
-            logger.info("진화체인 API 호출 시작: {} (ID: {})", englishName, evolutionChainId);
-            EvolutionDTO evolutionChain = callEvolutionChain(evolutionChainId);
+            // 3단계: 로컬 저장소의 체인 사용 (사전 적재 전이면 API 조회 후 저장)
+            EvolutionDTO evolutionChain = evolutionChainStore.findChain(evolutionChainId);
+            if (evolutionChain == null) {
+                logger.info("진화체인 API 호출 시작: {} (ID: {})", englishName, evolutionChainId);
+                evolutionChain = callEvolutionChain(evolutionChainId);
+            }
 
             if (evolutionChain != null) {
-                logger.info("진화체인 조회 성공 : {} (ID: {})", englishName, evolutionChainId);
                 return evolutionChain;
             } else {
                 logger.warn("진화체인 API에서 데이터를 가져올 수 없음 : ID {}", evolutionChainId);
@@ -1187,6 +1027,92 @@ private boolean isEnglishType(String type) {
         }
     }
 
+    /**
+     * 진화 체인 상세 조회 (단계별로 펼치고 카탈로그 정보로 채움)
+     *
+     * 체인 트리를 너비 우선으로 돌면서 단계 번호를 매기고, 모든 단계를 같은 카탈로그 스냅샷에서 한 번에 채운다.
+     * 카탈로그에 없는 단계는 이름 사전의 한글 이름만 채운다.
+     *
+     * @param name 포켓몬 이름
+     * @return 진화 체인 상세 또는 null
+     */
+    public EvolutionChainDetailDTO getEvolutionChainDetail(String name) {
+        EvolutionDTO evolutionChain = getEvolutionChain(name);
+        if (evolutionChain == null || evolutionChain.getChain() == null) {
+            return null;
+        }
+
+        CatalogSnapshot catalog = pokemonCatalog.current();
+        List<EvolutionStageDTO> stages = new ArrayList<>();
+        List<ChainDTO> level = Collections.singletonList(evolutionChain.getChain());
+        List<Integer> parentIds = Collections.singletonList(null);
+        int stage = 0;
+
+        while (!level.isEmpty()) {
+            List<ChainDTO> nextLevel = new ArrayList<>();
+            List<Integer> nextParentIds = new ArrayList<>();
+            for (int i = 0; i < level.size(); i++) {
+                ChainDTO link = level.get(i);
+                EvolutionStageDTO stageDTO = toEvolutionStage(catalog, link, stage, parentIds.get(i));
+                stages.add(stageDTO);
+                if (link.getEvolvesTo() != null) {
+                    for (ChainDTO next : link.getEvolvesTo()) {
+                        nextLevel.add(next);
+                        nextParentIds.add(stageDTO.getPokemonId());
+                    }
+                }
+            }
+            level = nextLevel;
+            parentIds = nextParentIds;
+            stage++;
+        }
+
+        EvolutionChainDetailDTO detail = new EvolutionChainDetailDTO();
+        detail.setChainId(evolutionChain.getId());
+        detail.setStageCount(stage);
+        detail.setStages(stages);
+        return detail;
+    }
+
+    /**
+     * 진화 체인 한 단계를 카탈로그 정보로 변환
+     */
+    private EvolutionStageDTO toEvolutionStage(CatalogSnapshot catalog, ChainDTO link, int stage, Integer evolvesFromId) {
+        EvolutionStageDTO stageDTO = new EvolutionStageDTO();
+        stageDTO.setStage(stage);
+        stageDTO.setEvolvesFromId(evolvesFromId);
+
+        ApiResourceDTO species = link.getSpecies();
+        Integer speciesId = species != null ? EvolutionChainStore.idFromUrl(species.getUrl()) : null;
+        String speciesName = species != null ? species.getName() : null;
+        stageDTO.setPokemonId(speciesId);
+        stageDTO.setName(speciesName);
+
+        CatalogPokemon pokemon = speciesId != null ? catalog.findByPokemonId(speciesId) : null;
+        if (pokemon != null) {
+            stageDTO.setName(pokemon.getName());
+            stageDTO.setKoreanName(pokemon.getKoreanName());
+            stageDTO.setSpriteUrl(pokemon.getSpriteUrl());
+            stageDTO.setOfficialArtworkUrl(pokemon.getOfficialArtworkUrl());
+            stageDTO.setTypes(pokemon.getTypes());
+            stageDTO.setKoreanTypes(pokemon.getKoreanTypes());
+            stageDTO.setInCatalog(true);
+        } else {
+            String koreanName = speciesId != null ? PokemonNameDictionary.koreanNameOf(speciesId.intValue()) : null;
+            stageDTO.setKoreanName(koreanName != null ? koreanName : speciesName);
+            stageDTO.setInCatalog(false);
+        }
+
+        // 진화 조건 (여러 개면 첫 번째 기준)
+        if (link.getEvolutionDetails() != null && !link.getEvolutionDetails().isEmpty()) {
+            EvolutionDetailDTO condition = link.getEvolutionDetails().get(0);
+            stageDTO.setTrigger(condition.getTrigger() != null ? condition.getTrigger().getName() : null);
+            stageDTO.setMinLevel(condition.getMinLevel());
+            stageDTO.setItem(condition.getItem() != null ? condition.getItem().getName() : null);
+        }
+        return stageDTO;
+    }
+
     /*
      * 진화 체인 API 호출
      * 
@@ -1205,8 +1131,8 @@ private boolean isEnglishType(String type) {
             .block();
 
             if (response != null) {
-                // Json DTO 변환
-                EvolutionDTO evolutionChain = objectMapper.readValue(response, EvolutionDTO.class);
+                // Json DTO 변환 후 로컬 저장소에 저장
+                EvolutionDTO evolutionChain = evolutionChainStore.save(evolutionChainId, response);
                 logger.info("진화체인 API 응답 파싱 성공: ID {}", evolutionChainId);
                 return evolutionChain;
             }
@@ -1226,6 +1152,12 @@ private boolean isEnglishType(String type) {
      */
    private Integer getEvolutionChainID(String name){
 
+    // 포켓몬 조회 때 species에서 이미 알아낸 경우 재요청 없음
+    Integer known = evolutionChainStore.findChainIdBySpeciesName(name);
+    if (known != null) {
+        return known;
+    }
+
     try {
         // api 호출
         String response = webClient.get()
@@ -1236,12 +1168,11 @@ private boolean isEnglishType(String type) {
 
         if (response != null) {
             SpeciesDTO speciesData = objectMapper.readValue(response, SpeciesDTO.class);
-            
-            if (speciesData.getEvolutionChain() != null) {
-                String evolutionChainUrl = speciesData.getEvolutionChain().getUrl();
-                String[] urlParts = evolutionChainUrl.split("/");
-                return Integer.parseInt(urlParts[urlParts.length -1]);
+            Integer evolutionChainId = extractEvolutionChainId(speciesData);
+            if (evolutionChainId != null) {
+                evolutionChainStore.registerSpecies(speciesData.getId(), speciesData.getName(), evolutionChainId);
             }
+            return evolutionChainId;
         }
         return null;
    } catch (Exception e) {
@@ -1250,6 +1181,20 @@ private boolean isEnglishType(String type) {
    }
     }
 
+    /**
+     * 로컬 색인에서 진화체인 ID 조회 (species ID → species 이름 → 이름 사전 순)
+     */
+    private Integer findLocalEvolutionChainId(Integer pokemonId, String englishName) {
+        Integer chainId = evolutionChainStore.findChainIdBySpeciesId(pokemonId);
+        if (chainId == null) {
+            chainId = evolutionChainStore.findChainIdBySpeciesName(englishName);
+        }
+        if (chainId == null) {
+            chainId = evolutionChainStore.findChainIdBySpeciesId(PokemonNameDictionary.pokemonIdOf(englishName));
+        }
+        return chainId;
+    }
+
     /**
      * PokeAPI 전체 포켓몬 정보 조회
      * 
@@ -1343,18 +1288,25 @@ private boolean isEnglishType(String type) {
             logger.info("진화체인 검색 시작: {}", keyword);
             
             // 1단계: 한글 이름으로 유사일치 검색
-            List<Pokemon> pokemons = pokemonRepository.findByKoreanNameContaining(keyword);
+            List<CatalogPokemon> pokemons = pokemonCatalog.current().searchByName(keyword, Integer.MAX_VALUE, false);
             logger.info("한글 이름 검색 결과: {}개", pokemons.size());
             
             // 2단계: 진화체인이 있는 포켓몬만 필터링
             List<PokemonDTO> evolutionPokemons = new ArrayList<>();
+            int speciesLookups = 0;
             
-            for (Pokemon pokemon : pokemons) {
+            for (CatalogPokemon pokemon : pokemons) {
                 try {
-                    // 진화체인 존재 여부 확인
-                    Integer evolutionChainId = getEvolutionChainID(pokemon.getName());
+                    // 진화체인 존재 여부 확인 (로컬 색인 우선, 사전 적재가 끝나기 전이면 species 단건 조회)
+                    Integer evolutionChainId = findLocalEvolutionChainId(pokemon.getPokemonId(), pokemon.getName());
+                    if (evolutionChainId == null && !evolutionChainStore.isPrefetchCompleted()) {
+                        // 기본 폼 이름(deoxys-normal 등)은 species 이름과 다르므로 사전의 species ID로 조회
+                        Integer speciesId = PokemonNameDictionary.pokemonIdOf(pokemon.getName());
+                        evolutionChainId = getEvolutionChainID(speciesId != null ? speciesId.toString() : pokemon.getName());
+                        speciesLookups++;
+                    }
                     if (evolutionChainId != null) {
-                        PokemonDTO pokemonDTO = convertToDTO(pokemon);
+                        PokemonDTO pokemonDTO = pokemon.toDTO();
                         evolutionPokemons.add(pokemonDTO);
                         logger.debug("진화체인 확인: {} (ID: {})", pokemon.getName(), evolutionChainId);
                     }
@@ -1363,7 +1315,8 @@ private boolean isEnglishType(String type) {
                 }
             }
             
-            logger.info("진화체인 검색 완료: {}개 결과", evolutionPokemons.size());
+            logger.info("진화체인 검색 완료: {}개 결과 (진화체인 사전 적재 완료={}, species 단건 조회 {}건)",
+                    evolutionPokemons.size(), evolutionChainStore.isPrefetchCompleted(), speciesLookups);
             return evolutionPokemons;
             
         } catch (Exception e) {
@@ -1383,90 +1336,203 @@ private boolean isEnglishType(String type) {
         Map<String, Object> result = new HashMap<>();
         int successCount = 0;
         int errorCount = 0;
-        List<String> errors = new ArrayList<>();
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        ImportPipelineStats stats = new ImportPipelineStats();
         
         try {
             logger.info("PokeAPI에서 전체 포켓몬 목록 가져오기 시작: limit={}, offset={}", limit, offset);
             
             // 1단계: PokeAPI에서 포켓몬 목록 가져오기
-            String listResponse = webClient.get()
-                    .uri("/pokemon?limit={limit}&offset={offset}", limit, offset)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+            List<String> pokemonNames = fetchPokemonNames(limit, offset);
+            logger.info("총 {}마리의 포켓몬을 처리합니다.", pokemonNames.size());
             
-            if (listResponse == null) {
-                throw new RuntimeException("PokeAPI 목록 응답이 null입니다.");
-            }
+            // 2단계: fetch → parse → persist 파이프라인으로 상세 정보 적재
+            importPokemons(pokemonNames, stats, errors);
+            successCount = (int) (stats.persist().getSucceeded() + stats.getSkipped());
+            errorCount = errors.size();
             
-            // 2단계: JSON 파싱
-            JsonNode listData;
-            try {
-                listData = objectMapper.readTree(listResponse);
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException("PokeAPI 응답 JSON 파싱 실패: " + e.getMessage(), e);
-            }
-            JsonNode results = listData.get("results");
-            
-            if (results == null || !results.isArray()) {
-                throw new RuntimeException("PokeAPI 응답에 results 배열이 없습니다.");
-            }
-            
-            logger.info("총 {}마리의 포켓몬을 처리합니다.", results.size());
-            
-            // 3단계: 각 포켓몬의 상세 정보를 순차적으로 가져오기
-            for (JsonNode pokemon : results) {
-                String pokemonName = pokemon.get("name").asText();
-                
-                try {
-                    logger.debug("포켓몬 처리 중: {}", pokemonName);
-                    
-                    // 이미 DB에 있는지 확인
-                    Optional<Pokemon> existingPokemon = pokemonRepository.findByName(pokemonName);
-                    if (existingPokemon.isPresent()) {
-                        logger.debug("포켓몬 {}은 이미 DB에 존재합니다. 스킵합니다.", pokemonName);
-                        successCount++;
-                        continue;
-                    }
-                    
-                    // PokeAPI에서 상세 정보 가져오기
-                    PokemonDTO pokemonDTO = callPokeApi(pokemonName);
-                    if (pokemonDTO != null) {
-                        // DB에 저장
-                        savePokemon(pokemonDTO);
-                        successCount++;
-                        logger.debug("포켓몬 {} 처리 완료", pokemonName);
-                    } else {
-                        errorCount++;
-                        String errorMsg = "포켓몬 " + pokemonName + " 상세 정보를 가져올 수 없습니다.";
-                        errors.add(errorMsg);
-                        logger.warn(errorMsg);
-                    }
-                    
-                    // API 호출 제한을 위한 짧은 대기 (더 짧게 조정)
-                    Thread.sleep(50);  // 100ms에서 50ms로 단축
-                    
-                } catch (Exception e) {
-                    errorCount++;
-                    String errorMsg = "포켓몬 " + pokemonName + " 처리 중 오류: " + e.getMessage();
-                    errors.add(errorMsg);
-                    logger.error(errorMsg, e);
-                }
-            }
-            
-            logger.info("전체 포켓몬 초기화 완료: 성공={}, 실패={}", successCount, errorCount);
+            logger.info("전체 포켓몬 초기화 완료: 성공={}, 실패={}, 단계별 처리량={}", successCount, errorCount, stats.toMap());
             
         } catch (Exception e) {
             logger.error("전체 포켓몬 초기화 중 오류 발생: {}", e.getMessage(), e);
             throw e;
+        } finally {
+            // 새로 저장된 포켓몬을 반영한 카탈로그 스냅샷으로 교체
+            pokemonCatalog.reload();
         }
         
         // 결과 반환
         result.put("successCount", successCount);
         result.put("errorCount", errorCount);
         result.put("errors", errors);
+        result.put("stageStats", stats.toMap());
         result.put("message", String.format("초기화 완료: 성공 %d개, 실패 %d개", successCount, errorCount));
         
         return result;
     }
+
+    /**
+     * PokeAPI 포켓몬 목록에서 영문 이름 조회 (목록 API 1회 호출)
+     *
+     * @param limit 가져올 포켓몬 수
+     * @param offset 시작 위치
+     * @return 영문 이름 목록 (목록 끝이면 limit보다 적음)
+     */
+    public List<String> fetchPokemonNames(int limit, int offset) {
+        String listResponse = webClient.get()
+                .uri("/pokemon?limit={limit}&offset={offset}", limit, offset)
+                .retrieve()
+                .bodyToMono(String.class)
+                .block();
+        
+        if (listResponse == null) {
+            throw new RuntimeException("PokeAPI 목록 응답이 null입니다.");
+        }
+        
+        // JSON 파싱
+        JsonNode listData;
+        try {
+            listData = objectMapper.readTree(listResponse);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("PokeAPI 응답 JSON 파싱 실패: " + e.getMessage(), e);
+        }
+        JsonNode results = listData.get("results");
+        
+        if (results == null || !results.isArray()) {
+            throw new RuntimeException("PokeAPI 응답에 results 배열이 없습니다.");
+        }
+        
+        List<String> pokemonNames = new ArrayList<>(results.size());
+        for (JsonNode pokemon : results) {
+            pokemonNames.add(pokemon.get("name").asText());
+        }
+        return pokemonNames;
+    }
+
+    /**
+     * 이름 목록의 포켓몬을 DB에 적재 (카탈로그 재구성은 호출하는 쪽에서)
+     *
+     * @param pokemonNames 영문 이름 목록
+     * @param stats 단계별 처리량 집계
+     * @param errors 실패 메시지 (동기화된 리스트)
+     */
+    public void importPokemons(List<String> pokemonNames, ImportPipelineStats stats, List<String> errors) {
+        // 이미 적재된 포켓몬은 카탈로그(메모리)에서 걸러내기
+        CatalogSnapshot catalog = pokemonCatalog.current();
+        List<String> targets = new ArrayList<>(pokemonNames.size());
+        for (String pokemonName : pokemonNames) {
+            if (catalog.findByNameOrKoreanName(pokemonName) != null) {
+                logger.debug("포켓몬 {}은 이미 DB에 존재합니다. 스킵합니다.", pokemonName);
+                stats.skipped(1);
+            } else {
+                targets.add(pokemonName);
+            }
+        }
+        runImportPipeline(targets, stats, errors);
+    }
+
+    /**
+     * 현재 카탈로그 버전 (저장/적재가 반영될 때마다 증가, ETag 계산용)
+     */
+    public long getCatalogVersion() {
+        return pokemonCatalog.getVersion();
+    }
+
+    /**
+     * 카탈로그 재구성 (대량 적재 완료 후)
+     */
+    public void reloadCatalog() {
+        pokemonCatalog.reload();
+    }
+
+    /**
+     * 대량 적재 파이프라인 (fetch → parse → persist)
+     *
+     * fetch: 최대 importConcurrency개의 /pokemon + /pokemon-species 요청을 동시에 진행
+     *        (초당 요청 수는 WebClient의 토큰 버킷이 제한)
+     * parse: 별도 스케줄러에서 JSON → DTO 변환 (제한된 큐로 fetch 단계에 배압 전달)
+     * persist: importBatchSize개씩 모아서 순차 저장
+     *
+     * @param pokemonNames 적재할 영문 이름 목록
+     * @param stats 단계별 처리량 집계
+     * @param errors 실패 메시지 (동기화된 리스트)
+     */
+    private void runImportPipeline(List<String> pokemonNames, ImportPipelineStats stats, List<String> errors) {
+        Flux.fromIterable(pokemonNames)
+                // 1) fetch
+                .flatMap(pokemonName -> Mono.zip(fetchPokemonDocument(pokemonName), fetchSpeciesDocument(pokemonName))
+                        .map(documents -> Tuples.of(pokemonName, documents.getT1(), documents.getT2()))
+                        .doOnNext(documents -> stats.fetch().succeeded(1))
+                        .onErrorResume(e -> {
+                            stats.fetch().failed();
+                            String errorMsg = "포켓몬 " + pokemonName + " 상세 정보를 가져올 수 없습니다: " + e.getMessage();
+                            errors.add(errorMsg);
+                            logger.warn(errorMsg);
+                            return Mono.empty();
+                        }), importConcurrency)
+                // 2) parse
+                .publishOn(Schedulers.parallel(), importConcurrency * 2)
+                .<PokemonDTO>handle((documents, sink) -> {
+                    try {
+                        sink.next(parsePokemonDocuments(documents.getT2(), documents.getT3(), documents.getT1()));
+                        stats.parse().succeeded(1);
+                    } catch (Exception e) {
+                        stats.parse().failed();
+                        String errorMsg = "포켓몬 " + documents.getT1() + " 응답 파싱 실패: " + e.getMessage();
+                        errors.add(errorMsg);
+                        logger.warn(errorMsg);
+                    }
+                })
+                // 3) persist
+                .buffer(importBatchSize)
+                .concatMap(batch -> Mono.fromRunnable(() -> persistImportBatch(batch, stats, errors))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .blockLast();
+    }
+
+    /**
+     * 적재 배치 저장 (배치당 IN 쿼리 1회 + 다중 행 INSERT 1회)
+     * 카탈로그는 배치마다 건드리지 않고, 적재가 끝난 뒤 호출하는 쪽에서 DB 기준으로 한 번 재구성한다.
+     * (initializeAllPokemonsFromApi의 finally, 적재 작업의 reloadCatalog)
+     */
+    private void persistImportBatch(List<PokemonDTO> batch, ImportPipelineStats stats, List<String> errors) {
+        try {
+            List<Integer> pokemonIds = new ArrayList<>(batch.size());
+            for (PokemonDTO dto : batch) {
+                if (dto.getPokemonId() != null) {
+                    pokemonIds.add(dto.getPokemonId());
+                    stats.recordPokemonId(dto.getPokemonId());
+                }
+            }
+            Set<Integer> existingIds = pokemonBatchRepository.findExistingPokemonIds(pokemonIds);
+
+            List<Pokemon> newPokemons = new ArrayList<>(batch.size());
+            for (PokemonDTO dto : batch) {
+                if (!existingIds.contains(dto.getPokemonId())) {
+                    newPokemons.add(convertToEntity(dto));
+                }
+            }
+
+            // 확인 이후 다른 요청이 먼저 넣은 행은 ON CONFLICT로 무시되고 건너뜀으로 집계
+            int inserted = pokemonBatchRepository.insertIgnoringDuplicates(newPokemons);
+            stats.persist().succeeded(inserted);
+            stats.skipped(batch.size() - inserted);
+            if (inserted > 0) {
+                // 타입 조회용 정규화 행 (pokemon_type)
+                List<Integer> newIds = new ArrayList<>(newPokemons.size());
+                for (Pokemon pokemon : newPokemons) {
+                    newIds.add(pokemon.getPokemonId());
+                }
+                pokemonBatchRepository.syncTypes(newIds);
+            }
+            logger.debug("포켓몬 배치 저장 완료: {}개 중 {}개 추가", batch.size(), inserted);
+        } catch (Exception e) {
+            for (int i = 0; i < batch.size(); i++) {
+                stats.persist().failed();
+            }
+            String errorMsg = "포켓몬 배치(" + batch.size() + "개) 저장 중 오류: " + e.getMessage();
+            errors.add(errorMsg);
+            logger.error(errorMsg, e);
+        }
+    }
 }
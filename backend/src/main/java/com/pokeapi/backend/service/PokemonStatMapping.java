@@ -0,0 +1,106 @@
+package com.pokeapi.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.pokeapi.backend.dto.PokemonDTO;
+import com.pokeapi.backend.entity.Pokemon;
+
+/**
+ * 능력치 목록(StatDTO) ↔ Pokemon 능력치 컬럼 변환
+ *
+ * 능력치 이름은 PokeAPI 이름(hp, attack, defense, special-attack, special-defense, speed)을 쓰고,
+ * 목록으로 돌려줄 때도 이 순서를 따른다.
+ */
+public final class PokemonStatMapping {
+
+    public static final String HP = "hp";
+    public static final String ATTACK = "attack";
+    public static final String DEFENSE = "defense";
+    public static final String SPECIAL_ATTACK = "special-attack";
+    public static final String SPECIAL_DEFENSE = "special-defense";
+    public static final String SPEED = "speed";
+
+    private PokemonStatMapping() {
+    }
+
+    /**
+     * 능력치 목록을 엔티티 컬럼에 반영 (모르는 능력치 이름은 무시, 합계는 여기서 계산)
+     */
+    public static void apply(List<PokemonDTO.StatDTO> stats, Pokemon entity) {
+        if (stats == null) {
+            return;
+        }
+        int total = 0;
+        boolean any = false;
+        for (PokemonDTO.StatDTO stat : stats) {
+            if (stat == null || stat.getName() == null) {
+                continue;
+            }
+            Short base = toShort(stat.getBaseStat());
+            Short effort = toShort(stat.getEffort());
+            switch (stat.getName()) {
+                case HP:
+                    entity.setHp(base);
+                    entity.setHpEffort(effort);
+                    break;
+                case ATTACK:
+                    entity.setAttack(base);
+                    entity.setAttackEffort(effort);
+                    break;
+                case DEFENSE:
+                    entity.setDefense(base);
+                    entity.setDefenseEffort(effort);
+                    break;
+                case SPECIAL_ATTACK:
+                    entity.setSpecialAttack(base);
+                    entity.setSpecialAttackEffort(effort);
+                    break;
+                case SPECIAL_DEFENSE:
+                    entity.setSpecialDefense(base);
+                    entity.setSpecialDefenseEffort(effort);
+                    break;
+                case SPEED:
+                    entity.setSpeed(base);
+                    entity.setSpeedEffort(effort);
+                    break;
+                default:
+                    continue;
+            }
+            if (base != null) {
+                total += base;
+                any = true;
+            }
+        }
+        entity.setBaseStatTotal(any ? toShort(total) : null);
+    }
+
+    /**
+     * 엔티티 능력치 컬럼 → 능력치 목록 (값이 없는 능력치는 제외)
+     */
+    public static List<PokemonDTO.StatDTO> toStats(Pokemon entity) {
+        List<PokemonDTO.StatDTO> stats = new ArrayList<>(6);
+        add(stats, HP, entity.getHp(), entity.getHpEffort());
+        add(stats, ATTACK, entity.getAttack(), entity.getAttackEffort());
+        add(stats, DEFENSE, entity.getDefense(), entity.getDefenseEffort());
+        add(stats, SPECIAL_ATTACK, entity.getSpecialAttack(), entity.getSpecialAttackEffort());
+        add(stats, SPECIAL_DEFENSE, entity.getSpecialDefense(), entity.getSpecialDefenseEffort());
+        add(stats, SPEED, entity.getSpeed(), entity.getSpeedEffort());
+        return stats;
+    }
+
+    private static void add(List<PokemonDTO.StatDTO> stats, String name, Short base, Short effort) {
+        if (base == null) {
+            return;
+        }
+        PokemonDTO.StatDTO stat = new PokemonDTO.StatDTO();
+        stat.setName(name);
+        stat.setBaseStat(base.intValue());
+        stat.setEffort(effort != null ? effort.intValue() : 0);
+        stats.add(stat);
+    }
+
+    private static Short toShort(Integer value) {
+        return value != null ? value.shortValue() : null;
+    }
+}
@@ -0,0 +1,119 @@
+package com.pokeapi.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 능력치 컬럼 온라인 마이그레이션 (stats JSON TEXT → hp, attack, ... 컬럼)
+ *
+ * 예전 stats 컬럼이 남아 있으면 능력치 컬럼이 빈 행만 작은 배치로 나눠 채운다.
+ * 배치마다 따로 커밋하므로 테이블을 오래 잠그지 않고, 중간에 멈춰도 다음 시작 때 이어서 진행한다.
+ * 카탈로그가 새 컬럼으로 적재되도록 이름 시드 다음, 카탈로그 적재 전에 실행한다.
+ * 이어서 능력치 복합 인덱스를 CONCURRENTLY로 만든다.
+ * 행을 채웠으면 카탈로그 버전을 올려서 그 전에 나간 ETag가 맞지 않게 한다.
+ */
+@Component
+public class PokemonStatMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(PokemonStatMigration.class);
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private static final String LEGACY_COLUMN_EXISTS =
+            "SELECT COUNT(*) FROM information_schema.columns "
+            + "WHERE table_name = 'pokemon' AND column_name = 'stats'";
+
+    // 능력치 컬럼이 빈 행 BACKFILL_BATCH_SIZE개를 stats JSON에서 채움 (stats가 빈 배열이어도 합계 0으로 표시해 다시 고르지 않음)
+    private static final String BACKFILL_BATCH =
+            "WITH batch AS ("
+            + "  SELECT id, stats::jsonb AS stats FROM pokemon"
+            + "  WHERE base_stat_total IS NULL AND stats LIKE '[%'"
+            + "  ORDER BY id LIMIT ?"
+            + "), parsed AS ("
+            + "  SELECT b.id,"
+            + "    MAX((e ->> 'baseStat')::smallint) FILTER (WHERE e ->> 'name' = 'hp') AS hp,"
+            + "    MAX((e ->> 'baseStat')::smallint) FILTER (WHERE e ->> 'name' = 'attack') AS attack,"
+            + "    MAX((e ->> 'baseStat')::smallint) FILTER (WHERE e ->> 'name' = 'defense') AS defense,"
+            + "    MAX((e ->> 'baseStat')::smallint) FILTER (WHERE e ->> 'name' = 'special-attack') AS special_attack,"
+            + "    MAX((e ->> 'baseStat')::smallint) FILTER (WHERE e ->> 'name' = 'special-defense') AS special_defense,"
+            + "    MAX((e ->> 'baseStat')::smallint) FILTER (WHERE e ->> 'name' = 'speed') AS speed,"
+            + "    COALESCE(SUM((e ->> 'baseStat')::int), 0)::smallint AS base_stat_total,"
+            + "    MAX((e ->> 'effort')::smallint) FILTER (WHERE e ->> 'name' = 'hp') AS hp_effort,"
+            + "    MAX((e ->> 'effort')::smallint) FILTER (WHERE e ->> 'name' = 'attack') AS attack_effort,"
+            + "    MAX((e ->> 'effort')::smallint) FILTER (WHERE e ->> 'name' = 'defense') AS defense_effort,"
+            + "    MAX((e ->> 'effort')::smallint) FILTER (WHERE e ->> 'name' = 'special-attack') AS special_attack_effort,"
+            + "    MAX((e ->> 'effort')::smallint) FILTER (WHERE e ->> 'name' = 'special-defense') AS special_defense_effort,"
+            + "    MAX((e ->> 'effort')::smallint) FILTER (WHERE e ->> 'name' = 'speed') AS speed_effort"
+            + "  FROM batch b LEFT JOIN LATERAL jsonb_array_elements(b.stats) e ON TRUE"
+            + "  GROUP BY b.id"
+            + ") "
+            + "UPDATE pokemon p SET hp = x.hp, attack = x.attack, defense = x.defense,"
+            + " special_attack = x.special_attack, special_defense = x.special_defense, speed = x.speed,"
+            + " base_stat_total = x.base_stat_total, hp_effort = x.hp_effort, attack_effort = x.attack_effort,"
+            + " defense_effort = x.defense_effort, special_attack_effort = x.special_attack_effort,"
+            + " special_defense_effort = x.special_defense_effort, speed_effort = x.speed_effort "
+            + "FROM parsed x WHERE p.id = x.id";
+
+    // 고급 검색 범위 조건 / 합계 정렬용 복합 인덱스
+    private static final String[] STAT_INDEXES = {
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_pokemon_attack_defense ON pokemon(attack, defense)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_pokemon_special_attack_defense ON pokemon(special_attack, special_defense)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_pokemon_hp_speed ON pokemon(hp, speed)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_pokemon_base_stat_total ON pokemon(base_stat_total, pokemon_id)"
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PokemonCatalog pokemonCatalog;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void migrateOnStartup() {
+        try {
+            long start = System.currentTimeMillis();
+            int migrated = backfill();
+            if (migrated > 0) {
+                logger.info("능력치 컬럼 백필 완료: {}건 ({}ms)", migrated, System.currentTimeMillis() - start);
+                pokemonCatalog.refreshIfLoaded();
+            }
+        } catch (Exception e) {
+            logger.error("능력치 컬럼 백필 실패: {}", e.getMessage(), e);
+        }
+
+        for (String ddl : STAT_INDEXES) {
+            try {
+                jdbcTemplate.execute(ddl);
+            } catch (Exception e) {
+                logger.warn("능력치 인덱스 생성 실패: {} ({})", ddl, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 예전 stats JSON 컬럼에서 능력치 컬럼 채우기 (배치마다 커밋)
+     *
+     * @return 채운 행 수
+     */
+    public int backfill() {
+        Integer legacy = jdbcTemplate.queryForObject(LEGACY_COLUMN_EXISTS, Integer.class);
+        if (legacy == null || legacy == 0) {
+            return 0;
+        }
+        int total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(BACKFILL_BATCH, BACKFILL_BATCH_SIZE);
+            total += updated;
+        } while (updated == BACKFILL_BATCH_SIZE);
+        return total;
+    }
+}
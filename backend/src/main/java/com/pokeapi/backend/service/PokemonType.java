@@ -0,0 +1,65 @@
+package com.pokeapi.backend.service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 포켓몬 타입 18종 (영문 이름 ↔ 한글 이름)
+ * 타입 비트맵 인덱스의 키로도 사용된다.
+ */
+public enum PokemonType {
+    NORMAL("normal", "노말"),
+    FIRE("fire", "불꽃"),
+    WATER("water", "물"),
+    ELECTRIC("electric", "전기"),
+    GRASS("grass", "풀"),
+    ICE("ice", "얼음"),
+    FIGHTING("fighting", "격투"),
+    POISON("poison", "독"),
+    GROUND("ground", "땅"),
+    FLYING("flying", "비행"),
+    PSYCHIC("psychic", "에스퍼"),
+    BUG("bug", "벌레"),
+    ROCK("rock", "바위"),
+    GHOST("ghost", "고스트"),
+    DRAGON("dragon", "드래곤"),
+    DARK("dark", "악"),
+    STEEL("steel", "강철"),
+    FAIRY("fairy", "페어리");
+
+    private static final Map<String, PokemonType> BY_NAME = new HashMap<>();
+
+    static {
+        for (PokemonType type : values()) {
+            BY_NAME.put(type.englishName, type);
+            BY_NAME.put(type.koreanName, type);
+        }
+    }
+
+    private final String englishName;
+    private final String koreanName;
+
+    PokemonType(String englishName, String koreanName) {
+        this.englishName = englishName;
+        this.koreanName = koreanName;
+    }
+
+    public String getEnglishName() { return englishName; }
+    public String getKoreanName() { return koreanName; }
+
+    /**
+     * 영문(대소문자 무시) 또는 한글 타입 이름으로 조회 (정확히 일치하는 경우만)
+     *
+     * @param name 타입 이름 (예: "fire", "Fire", "불꽃")
+     * @return 타입 또는 null (알 수 없는 이름)
+     */
+    public static PokemonType fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        String trimmed = name.trim();
+        PokemonType type = BY_NAME.get(trimmed);
+        return type != null ? type : BY_NAME.get(trimmed.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,142 @@
+package com.pokeapi.backend.service;
+
+import java.util.List;
+
+/**
+ * 타입/세대 비트맵 인덱스
+ *
+ * 타입 18종과 세대마다 카탈로그 ordinal 비트셋을 하나씩 가진다.
+ * 타입 이름은 파싱된 리스트의 원소를 PokemonType으로 정확히 매칭해서 넣기 때문에
+ * JSON 문자열 LIKE/contains 검색에서 생기던 부분 문자열 오탐이 없다.
+ * 카탈로그가 천여 마리 규모라 비트맵 하나가 long 수십 개면 충분해서 별도 압축 포맷은 쓰지 않는다.
+ */
+public final class PokemonTypeIndex {
+
+    public static final int MAX_GENERATION = 9;
+
+    // 세대별 마지막 전국도감 번호 (세대 N은 LAST_POKEMON_IDS[N-1]+1 ~ LAST_POKEMON_IDS[N])
+    private static final int[] LAST_POKEMON_IDS = {0, 151, 251, 386, 493, 649, 721, 809, 905, 1025};
+
+    private final int wordCount;
+    private final long[] allRows;
+    private final long[][] typeBits;
+    private final long[][] generationBits;
+
+    public PokemonTypeIndex(List<CatalogPokemon> entries) {
+        int size = entries.size();
+        this.wordCount = (size + 63) >>> 6;
+        this.allRows = new long[wordCount];
+        for (int word = 0; word < wordCount; word++) {
+            int remaining = size - (word << 6);
+            allRows[word] = remaining >= 64 ? -1L : (1L << remaining) - 1;
+        }
+        this.typeBits = new long[PokemonType.values().length][wordCount];
+        this.generationBits = new long[MAX_GENERATION + 1][wordCount];
+
+        for (int ordinal = 0; ordinal < entries.size(); ordinal++) {
+            CatalogPokemon pokemon = entries.get(ordinal);
+            long bit = 1L << ordinal;
+
+            // 영문/한글 타입 리스트 모두 반영 (어느 한쪽만 저장된 행 대비)
+            for (String typeName : pokemon.getTypes()) {
+                PokemonType type = PokemonType.fromName(typeName);
+                if (type != null) {
+                    typeBits[type.ordinal()][ordinal >>> 6] |= bit;
+                }
+            }
+            for (String typeName : pokemon.getKoreanTypes()) {
+                PokemonType type = PokemonType.fromName(typeName);
+                if (type != null) {
+                    typeBits[type.ordinal()][ordinal >>> 6] |= bit;
+                }
+            }
+
+            int generation = generationOf(pokemon);
+            if (generation >= 1 && generation <= MAX_GENERATION) {
+                generationBits[generation][ordinal >>> 6] |= bit;
+            }
+        }
+    }
+
+    /**
+     * 타입/세대 조건을 만족하는 ordinal 비트셋 (새 배열 반환)
+     *
+     * @param type       타입 (null이면 조건 없음)
+     * @param generation 세대 (null이면 조건 없음, 범위 밖이면 결과 없음)
+     */
+    public long[] matching(PokemonType type, Integer generation) {
+        long[] bits = allRows.clone();
+        if (type != null) {
+            and(bits, typeBits[type.ordinal()]);
+        }
+        if (generation != null) {
+            if (generation < 1 || generation > MAX_GENERATION) {
+                return new long[wordCount];
+            }
+            and(bits, generationBits[generation]);
+        }
+        return bits;
+    }
+
+    /**
+     * 비트셋에서 다음으로 선택된 ordinal (없으면 -1)
+     */
+    public static int nextSetBit(long[] bits, int fromIndex) {
+        int word = fromIndex >>> 6;
+        if (word >= bits.length) {
+            return -1;
+        }
+        long current = bits[word] & (-1L << fromIndex);
+        while (true) {
+            if (current != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(current);
+            }
+            if (++word == bits.length) {
+                return -1;
+            }
+            current = bits[word];
+        }
+    }
+
+    /**
+     * 비트셋 AND (target을 제자리에서 갱신)
+     */
+    public static void and(long[] target, long[] other) {
+        for (int word = 0; word < target.length; word++) {
+            target[word] &= other[word];
+        }
+    }
+
+    /**
+     * 세대의 첫 전국도감 번호 (세대는 1 ~ MAX_GENERATION)
+     */
+    public static int firstPokemonIdOf(int generation) {
+        return LAST_POKEMON_IDS[generation - 1] + 1;
+    }
+
+    /**
+     * 세대의 마지막 전국도감 번호 (세대는 1 ~ MAX_GENERATION)
+     */
+    public static int lastPokemonIdOf(int generation) {
+        return LAST_POKEMON_IDS[generation];
+    }
+
+    /**
+     * 세대 정보가 없으면 전국도감 번호 구간으로 세대 추정
+     */
+    private static int generationOf(CatalogPokemon pokemon) {
+        if (pokemon.getGeneration() != null && pokemon.getGeneration() > 0) {
+            return pokemon.getGeneration();
+        }
+        Integer id = pokemon.getPokemonId();
+        if (id == null || id < 1) {
+            return 0;
+        }
+        for (int generation = 1; generation <= MAX_GENERATION; generation++) {
+            if (id <= LAST_POKEMON_IDS[generation]) {
+                return generation;
+            }
+        }
+        return 0;
+    }
+}
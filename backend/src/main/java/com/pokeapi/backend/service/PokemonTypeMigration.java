@@ -0,0 +1,41 @@
+package com.pokeapi.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.pokeapi.backend.repository.PokemonBatchRepository;
+
+/**
+ * 시작 시 pokemon_type 백필
+ *
+ * 타입 행 적재 이전에 저장된 포켓몬(또는 적재 중 타입 저장만 실패한 포켓몬)의 타입 행을 채운다.
+ * 이미 타입 행이 있는 포켓몬은 건너뛰므로 매번 실행해도 된다.
+ */
+@Component
+public class PokemonTypeMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(PokemonTypeMigration.class);
+
+    @Autowired
+    private PokemonBatchRepository pokemonBatchRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 3)
+    public void migrateOnStartup() {
+        try {
+            long start = System.currentTimeMillis();
+            int inserted = pokemonBatchRepository.syncAllTypes();
+            if (inserted > 0) {
+                logger.info("pokemon_type 백필 완료: 타입 행 {}건 ({}ms)", inserted, System.currentTimeMillis() - start);
+            }
+        } catch (Exception e) {
+            logger.error("pokemon_type 백필 실패: {}", e.getMessage(), e);
+        }
+    }
+}
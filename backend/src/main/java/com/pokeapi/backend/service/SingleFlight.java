@@ -0,0 +1,108 @@
+package com.pokeapi.backend.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 요청 합치기 (single-flight)
+ *
+ * 키별로 진행 중인 작업이 하나만 있도록 한다.
+ * 처음 들어온 요청(leader)이 자기 스레드에서 작업을 실행하고,
+ * 그동안 같은 키로 들어온 요청(follower)은 그 결과를 최대 maxWait 동안 기다려서 함께 받는다.
+ * leader의 예외는 follower에게도 그대로 전달된다.
+ */
+public final class SingleFlight<T> {
+
+    private final Map<String, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+    private final Duration maxWait;
+
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public SingleFlight(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * 키에 대해 작업 실행 (이미 진행 중이면 그 결과를 기다림)
+     *
+     * @throws WaitTimeoutException follower가 maxWait 안에 결과를 받지 못했거나 기다리다 인터럽트된 경우
+     */
+    public T execute(String key, Supplier<T> task) {
+        CompletableFuture<T> created = new CompletableFuture<>();
+        CompletableFuture<T> existing = inFlight.putIfAbsent(key, created);
+
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return await(key, existing);
+        }
+
+        executions.incrementAndGet();
+        try {
+            T result = task.get();
+            created.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            failures.incrementAndGet();
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private T await(String key, CompletableFuture<T> future) {
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.incrementAndGet();
+            throw new WaitTimeoutException("동일 요청 대기 시간 초과: " + key, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WaitTimeoutException("동일 요청 대기 중 인터럽트: " + key, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 실행/합치기 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("executions", executions.get());
+        stats.put("coalesced", coalesced.get());
+        stats.put("timeouts", timeouts.get());
+        stats.put("failures", failures.get());
+        stats.put("inFlight", inFlight.size());
+        stats.put("maxWaitMillis", maxWait.toMillis());
+        return stats;
+    }
+
+    /**
+     * follower가 leader 결과를 받지 못함 (대기 시간 초과 또는 인터럽트)
+     * leader 작업 자체의 실패는 이 예외로 감싸지 않는다.
+     */
+    public static class WaitTimeoutException extends RuntimeException {
+        public WaitTimeoutException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
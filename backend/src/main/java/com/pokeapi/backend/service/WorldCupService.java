@@ -16,10 +16,8 @@ import com.pokeapi.backend.dto.WorldCupRankingDTO;
 import com.pokeapi.backend.dto.WorldCupRequestDTO;
 import com.pokeapi.backend.dto.WorldCupResultDTO;
 import com.pokeapi.backend.dto.WorldCupStatisticsDTO;
-import com.pokeapi.backend.entity.Pokemon;
 import com.pokeapi.backend.entity.WorldCupResult;
 import com.pokeapi.backend.entity.WorldCupStatistics;
-import com.pokeapi.backend.repository.PokemonRepository;
 import com.pokeapi.backend.repository.WorldCupResultRepository;
 import com.pokeapi.backend.repository.WorldCupStatisticsRepository;
 
@@ -35,7 +33,7 @@ public class WorldCupService {
 
 
     @Autowired
-    private PokemonRepository pokemonRepository;
+    private PokemonCatalog pokemonCatalog;
 
     @Autowired
     private ObjectMapper objectMapper;
@@ -57,7 +55,7 @@ public class WorldCupService {
         try {
 
             if (resultsDTO.getConditions() != null) {
-                entity.setConditions(objectMapper.writeValueAsString(resultsDTO.getConditions()));
+                entity.setConditions(objectMapper.writeValueAsString(normalizeConditions(resultsDTO.getConditions())));
             }
 
             if (resultsDTO.getParticipants() != null) {
@@ -184,11 +182,11 @@ public class WorldCupService {
      */
     public List<WorldCupParticipantDTO> selectParticipants(WorldCupRequestDTO request) {
 
-        List<Pokemon> candidates = findCandidatesByConditions(request);
+        List<CatalogPokemon> candidates = findCandidatesByConditions(request);
 
         // 참가자 수에 맞게 랜덤 선택
         Collections.shuffle(candidates);
-        List<Pokemon> selected = candidates.stream()
+        List<CatalogPokemon> selected = candidates.stream()
                 .limit(request.getParticipantCount())
                 .collect(Collectors.toList());
 
@@ -202,30 +200,41 @@ public class WorldCupService {
      * 
      */
 
-    private List<Pokemon> findCandidatesByConditions(WorldCupRequestDTO request) {
+    private List<CatalogPokemon> findCandidatesByConditions(WorldCupRequestDTO request) {
 
-        List<Pokemon> candidates = new ArrayList<>();
+        CatalogSnapshot catalog = pokemonCatalog.current();
 
-        if (request.getGeneration() != null & !request.getGeneration().equals("all")) {
+        Integer generation = null;
+        if (isSpecified(request.getGeneration())) {
+            generation = Integer.parseInt(request.getGeneration().trim());
+        }
 
-            Integer generation = Integer.parseInt(request.getGeneration());
-            candidates = pokemonRepository.findByPokemonIdBetween(
-                    getGenerationStartId(generation),
-                    getGenerationEndId(generation));
-            
-        } else {
-            candidates = pokemonRepository.findAll();
+        PokemonType type = null;
+        if (isSpecified(request.getType())) {
+            type = PokemonType.fromName(request.getType());
+            if (type == null) {
+                return new ArrayList<>(); // 알 수 없는 타입
+            }
         }
 
-        if (request.getType() != null && !request.getType().equals("all")) {
-            candidates = candidates.stream()
-            .filter(pokemon -> pokemon.getKoreanTypes() != null &&
-            pokemon.getKoreanTypes().contains(request.getType()))
-            .collect(Collectors.toList());
+        // 타입 비트맵 AND 세대 비트맵
+        long[] matches = catalog.getTypeIndex().matching(type, generation);
+
+        List<CatalogPokemon> candidates = new ArrayList<>();
+        for (int ordinal = PokemonTypeIndex.nextSetBit(matches, 0); ordinal >= 0;
+                ordinal = PokemonTypeIndex.nextSetBit(matches, ordinal + 1)) {
+            candidates.add(catalog.get(ordinal));
         }
         return candidates;
     }
 
+    /**
+     * "all"이나 빈 값이 아닌 조건인지 확인
+     */
+    private boolean isSpecified(String condition) {
+        return condition != null && !condition.trim().isEmpty() && !condition.trim().equals("all");
+    }
+
     // ===== 3. 통계 업데이트 =====
 
     /**
@@ -301,8 +310,12 @@ public class WorldCupService {
      */
     public List<WorldCupStatisticsDTO> getPopularPokemonsType(String type) {
 
+        PokemonType pokemonType = PokemonType.fromName(type);
+        if (pokemonType == null) {
+            return new ArrayList<>();
+        }
         List<WorldCupStatistics> statistics = worldCupStatisticsRepository
-                .findTopByTypeOrderByRankAndWins(type);
+                .findTopByTypeOrderByRankAndWins(pokemonType.getEnglishName());
 
         return statistics.stream().map(this::convertToStatisticsDTO)
                 .collect(Collectors.toList());
@@ -313,8 +326,12 @@ public class WorldCupService {
      */
     public List<WorldCupStatisticsDTO> getPopularPokemonsTypeAndGeneration(Integer generation, String type) {
 
+        PokemonType pokemonType = PokemonType.fromName(type);
+        if (pokemonType == null) {
+            return new ArrayList<>();
+        }
         List<WorldCupStatistics> statistics = worldCupStatisticsRepository
-                .findTopByGenerationAndTypeOrderByRankAndWins(generation, type);
+                .findTopByGenerationAndTypeOrderByRankAndWins(generation, pokemonType.getEnglishName());
 
         return statistics.stream().map(this::convertToStatisticsDTO)
                 .collect(Collectors.toList());
@@ -333,15 +350,17 @@ public class WorldCupService {
         // top 포켓몬 추가
         for (int i = 0; i < topCount; i++) {
             WorldCupStatistics stats = topPokemons.get(i);
-            Pokemon pokemon = pokemonRepository.findByPokemonId(stats.getPokemonId())
-                    .orElseThrow(() -> new RuntimeException("포켓몬을 찾을 수 없습니다: " + stats.getPokemonId()));
+            CatalogPokemon pokemon = findCatalogPokemon(stats.getPokemonId());
+            if (pokemon == null) {
+                throw new RuntimeException("포켓몬을 찾을 수 없습니다: " + stats.getPokemonId());
+            }
             participants.add(convertToParticipantDTO(pokemon));
         }
 
         // 랜덤 포켓몬 추가
         if (request.getIncludeRandom() && participants.size() < request.getParticipantCount()) {
 
-            List<Pokemon> randomPokemons = getRandomPokemons(request, topPokemons);
+            List<CatalogPokemon> randomPokemons = getRandomPokemons(request, topPokemons);
 
             int remainingCount = request.getParticipantCount() - participants.size();
 
@@ -359,17 +378,21 @@ public class WorldCupService {
      */
     private List<WorldCupStatistics> getTopPokemonsByRequest(AutoWorldCupRequestDTO request) {
 
-        if (request.getGeneration() != null && request.getType() != null) {
+        PokemonType type = request.getType() != null ? PokemonType.fromName(request.getType()) : null;
+        if (request.getType() != null && type == null) {
+            return new ArrayList<>(); // 알 수 없는 타입
+        }
+
+        if (request.getGeneration() != null && type != null) {
             return worldCupStatisticsRepository.findTopByGenerationAndTypeOrderByRankAndWins(
-                    Integer.parseInt(request.getGeneration()), request.getType());
+                Integer.parseInt(request.getGeneration()), type.getEnglishName());
 
         } else if (request.getGeneration() != null) {
             return worldCupStatisticsRepository.findTopByGenerationOrderByRankAndWins(
                 Integer.parseInt(request.getGeneration()));
             
-        } else if (request.getType() != null) {
-            return worldCupStatisticsRepository.findTopByTypeOrderByRankAndWins(
-                request.getType());
+        } else if (type != null) {
+            return worldCupStatisticsRepository.findTopByTypeOrderByRankAndWins(type.getEnglishName());
             
         } else {
             return worldCupStatisticsRepository.findTop10ByOrderByAverageRankAsc();
@@ -379,14 +402,14 @@ public class WorldCupService {
     /**
      * 랜덤 포켓모들 조회 (TOP 포켓몬 제외)
      */
-    private List<Pokemon> getRandomPokemons(AutoWorldCupRequestDTO request, List<WorldCupStatistics> topPokemons) {
+    private List<CatalogPokemon> getRandomPokemons(AutoWorldCupRequestDTO request, List<WorldCupStatistics> topPokemons) {
 
         Set<Integer> topPokemonIds = topPokemons.stream()
             .map(WorldCupStatistics::getPokemonId)
             .collect(Collectors.toSet());
 
-        List<Pokemon> allPokemons = pokemonRepository.findAll();
-        List<Pokemon> availablePokemons = allPokemons.stream()
+        List<CatalogPokemon> allPokemons = pokemonCatalog.current().getEntries();
+        List<CatalogPokemon> availablePokemons = allPokemons.stream()
             .filter(pokemon -> !topPokemonIds.contains(pokemon.getPokemonId()))
             .collect(Collectors.toList());
 
@@ -397,10 +420,14 @@ public class WorldCupService {
                    .collect(Collectors.toList());
     }
 
+    private CatalogPokemon findCatalogPokemon(Integer pokemonId) {
+        return pokemonId != null ? pokemonCatalog.current().findByPokemonId(pokemonId) : null;
+    }
+
     /**
      * ======= Convert 매서드임 중요 없으면안됨 ========
      */
-    private WorldCupParticipantDTO convertToParticipantDTO(Pokemon pokemon) {
+    private WorldCupParticipantDTO convertToParticipantDTO(CatalogPokemon pokemon) {
         
         WorldCupParticipantDTO dto = new WorldCupParticipantDTO();
         dto.setId(pokemon.getPokemonId());
@@ -410,14 +437,8 @@ public class WorldCupService {
         dto.setDescription(pokemon.getDescription());
         dto.setGeneration(pokemon.getGeneration());
 
-        // 타입정보 파싱
-        if (pokemon.getKoreanTypes() != null) {
-            try {
-                dto.setTypes(parseTypes(pokemon.getKoreanTypes()));
-            } catch (JsonProcessingException e) {
-                dto.setTypes(new ArrayList<>());
-            }
-        }
+        // 타입정보 (카탈로그에서 이미 파싱됨)
+        dto.setTypes(new ArrayList<>(pokemon.getKoreanTypes()));
         
         return dto;
     }
@@ -437,21 +458,15 @@ public class WorldCupService {
         dto.setLastUpdated(statistics.getLastUpdated());
 
         // 포켓몬 정보 추가
-        Pokemon pokemon = pokemonRepository.findByPokemonId(statistics.getPokemonId()).orElse(null);
+        CatalogPokemon pokemon = findCatalogPokemon(statistics.getPokemonId());
         if (pokemon != null) {
             dto.setPokemonName(pokemon.getName());
             dto.setPokemonKoreanName(pokemon.getKoreanName());
             dto.setSpriteUrl(pokemon.getSpriteUrl());
             dto.setGeneration(pokemon.getGeneration());
 
-            // 타입정보 파싱
-            if (pokemon.getKoreanTypes() != null) {
-                try {
-                    dto.setTypes(parseTypes(pokemon.getKoreanTypes()));
-                } catch (Exception e) {
-                    dto.setTypes(new ArrayList<>());
-                }
-            }
+            // 타입정보 (카탈로그에서 이미 파싱됨)
+            dto.setTypes(new ArrayList<>(pokemon.getKoreanTypes()));
         }
 
         // 계산된 통계
@@ -488,42 +503,17 @@ public class WorldCupService {
         return objectMapper.readValue(json, List.class);
     }
 
-    @SuppressWarnings("unchecked")
-    private List<String> parseTypes(String json) throws JsonProcessingException {
-        return objectMapper.readValue(json, List.class);
-    }
-
-    private Integer getGenerationStartId(Integer generation) {
-        
-        switch (generation) {
-            case 1: return 1;
-            case 2: return 152;
-            case 3: return 252;
-            case 4: return 387;
-            case 5: return 494;
-            case 6: return 650;
-            case 7: return 722;
-            case 8: return 810;
-            case 9: return 906;
-            case 10: return 1026; // 10세대 시작 ID
-            default: return 1;
-        }
-    }
-    
-    private Integer getGenerationEndId(Integer generation) {
-        switch (generation) {
-            case 1: return 151;
-            case 2: return 251;
-            case 3: return 386;
-            case 4: return 493;
-            case 5: return 649;
-            case 6: return 721;
-            case 7: return 809;
-            case 8: return 905;
-            case 9: return 1025;
-            case 10: return 1302; // 10세대 추가 (1026-1302)
-            default: return 1302; // 전체 포켓몬 수로 변경
+    /**
+     * 저장용 조건 정리: 세대 "1" 같은 숫자 문자열은 숫자로 바꾼다.
+     * conditions를 jsonb @> {"generation": 1}로 찾으므로 세대 값의 JSON 타입을 맞춰 둔다. ("all"은 그대로)
+     */
+    private Map<String, Object> normalizeConditions(Map<String, Object> conditions) {
+        Object generation = conditions.get("generation");
+        if (!(generation instanceof String) || !((String) generation).matches("\\d{1,9}")) {
+            return conditions;
         }
+        Map<String, Object> normalized = new LinkedHashMap<>(conditions);
+        normalized.put("generation", Integer.valueOf((String) generation));
+        return normalized;
     }
 }
-
@@ -0,0 +1,102 @@
+package com.pokeapi.backend.tool;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokeapi.backend.service.PokemonNameSeed;
+
+/**
+ * 포켓몬 이름 시드 생성기 (빌드 시 실행, 애플리케이션에서는 사용하지 않음)
+ *
+ * PokeAPI의 /pokemon-species 전체 목록을 돌면서 기본 폼의 영문 이름, 한글 이름, 세대를 모아
+ * src/main/resources/seed/pokemon-names.csv 를 다시 쓴다. 전체 species 수도 '# species=N'으로 남긴다.
+ * 일시적인 연결 오류나 429/5xx는 재시도하고, 하나라도 끝내 실패하면 파일을 쓰지 않는다.
+ *
+ * 실행: mvn -Pgenerate-seed process-classes
+ */
+public final class PokemonSeedGenerator {
+
+    private static final String BASE_URL = "https://pokeapi.co/api/v2";
+    private static final String DEFAULT_OUTPUT = "src/main/resources/seed/pokemon-names.csv";
+    private static final int MAX_ATTEMPTS = 4;
+    private static final long RETRY_BACKOFF_MILLIS = 1000;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        Path output = Paths.get(args.length > 0 ? args[0] : DEFAULT_OUTPUT);
+        new PokemonSeedGenerator().generate(output);
+    }
+
+    private void generate(Path output) throws IOException, InterruptedException {
+        JsonNode species = get(BASE_URL + "/pokemon-species?limit=100000&offset=0").get("results");
+
+        List<String> rows = new ArrayList<>(species.size());
+        for (JsonNode item : species) {
+            PokemonNameSeed.Entry entry = PokemonNameSeed.fromSpecies(get(item.get("url").asText()));
+            rows.add(entry.getPokemonId() + "," + entry.getEnglishName() + "," + entry.getKoreanName()
+                    + "," + entry.getGeneration());
+            System.out.println(entry.getPokemonId() + " " + entry.getEnglishName() + " " + entry.getKoreanName());
+        }
+        rows.sort((a, b) -> Integer.compare(
+                Integer.parseInt(a.substring(0, a.indexOf(','))),
+                Integer.parseInt(b.substring(0, b.indexOf(',')))));
+
+        StringBuilder csv = new StringBuilder();
+        csv.append("# PokeAPI 포켓몬 이름 시드 (PokemonSeedGenerator로 생성, mvn -Pgenerate-seed process-classes)\n");
+        csv.append("# species=").append(species.size()).append('\n');
+        csv.append("pokemon_id,english_name,korean_name,generation\n");
+        for (String row : rows) {
+            csv.append(row).append('\n');
+        }
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.write(output, csv.toString().getBytes(StandardCharsets.UTF_8));
+        System.out.println("시드 생성 완료: " + rows.size() + "마리 -> " + output);
+    }
+
+    /**
+     * GET 요청 (연결 오류, 429, 5xx는 간격을 늘려가며 재시도)
+     */
+    private JsonNode get(String url) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        IOException lastError = null;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200) {
+                    return objectMapper.readTree(response.body());
+                }
+                lastError = new IOException("PokeAPI 호출 실패 (" + response.statusCode() + "): " + url);
+                if (response.statusCode() != 429 && response.statusCode() < 500) {
+                    throw lastError;
+                }
+            } catch (ConnectException | HttpTimeoutException e) {
+                lastError = e;
+            }
+            if (attempt < MAX_ATTEMPTS) {
+                Thread.sleep(RETRY_BACKOFF_MILLIS << (attempt - 1));
+            }
+        }
+        throw lastError;
+    }
+}
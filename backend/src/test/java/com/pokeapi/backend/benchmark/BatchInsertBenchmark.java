@@ -0,0 +1,137 @@
+package com.pokeapi.backend.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.pokeapi.backend.PokeApiApplication;
+import com.pokeapi.backend.entity.Pokemon;
+import com.pokeapi.backend.repository.PokemonBatchRepository;
+import com.pokeapi.backend.repository.PokemonRepository;
+
+/**
+ * 포켓몬 대량 저장 처리량 비교 (행 단위 JPA save / PokemonBatchRepository 다중 행 INSERT)
+ *
+ * 합성 포켓몬 N건을 두 방식으로 각각 저장하고 초당 행 수를 출력한다.
+ * - save: 행마다 existsByPokemonId 확인 후 pokemonRepository.save (예전 적재 경로)
+ * - batch: 배치마다 pokemon_id IN 조회 1회 + insertIgnoringDuplicates (현재 적재 경로)
+ * 합성 행은 pokemon_id SYNTHETIC_ID_BASE 이상을 쓰고, 실행 전후로 지운다.
+ * 실제 데이터와 섞이지 않도록 벤치마크용 DB를 따로 지정해서 실행한다.
+ *
+ * 테스트 소스에 두어 운영 jar에는 포함되지 않는다.
+ * 실행: mvn -Pinsert-benchmark process-test-classes
+ *      (-Dbenchmark.rows=5000 -Dbenchmark.batch-size=50 -Dbenchmark.db.url=jdbc:postgresql://localhost:5432/pokeapi_benchmark)
+ */
+public final class BatchInsertBenchmark {
+
+    private static final int SYNTHETIC_ID_BASE = 900_000;
+
+    public static void main(String[] args) {
+        List<String> springArgs = new ArrayList<>();
+        List<String> toolArgs = new ArrayList<>();
+        for (String arg : args) {
+            (arg.startsWith("--") ? springArgs : toolArgs).add(arg);
+        }
+        int rows = toolArgs.size() > 0 ? Integer.parseInt(toolArgs.get(0)) : 2000;
+        int batchSize = toolArgs.size() > 1 ? Integer.parseInt(toolArgs.get(1)) : 50;
+
+        // 웹 서버, 진화 체인 사전 적재, 이름 사전 보충 없이 저장소 빈만 사용
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PokeApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "pokemon.evolution.prefetch-on-startup=false",
+                        "pokemon.name-warmup.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.pokeapi.backend=WARN",
+                        "logging.level.org.hibernate.SQL=WARN")
+                .run(springArgs.toArray(new String[0]));
+        try {
+            PokemonRepository pokemonRepository = context.getBean(PokemonRepository.class);
+            PokemonBatchRepository pokemonBatchRepository = context.getBean(PokemonBatchRepository.class);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+            System.out.println("합성 포켓몬 " + rows + "건, 배치 크기 " + batchSize);
+            System.out.printf("%-6s %10s %12s %12s%n", "path", "inserted", "elapsed(ms)", "rows/sec");
+
+            clear(jdbcTemplate);
+            long start = System.nanoTime();
+            int saved = 0;
+            for (Pokemon pokemon : samplePokemons(rows)) {
+                if (!pokemonRepository.existsByPokemonId(pokemon.getPokemonId())) {
+                    pokemonRepository.save(pokemon);
+                    saved++;
+                }
+            }
+            report("save", saved, System.nanoTime() - start);
+
+            clear(jdbcTemplate);
+            List<Pokemon> pokemons = samplePokemons(rows);
+            start = System.nanoTime();
+            int inserted = 0;
+            for (int from = 0; from < pokemons.size(); from += batchSize) {
+                List<Pokemon> batch = pokemons.subList(from, Math.min(pokemons.size(), from + batchSize));
+                List<Integer> ids = new ArrayList<>(batch.size());
+                for (Pokemon pokemon : batch) {
+                    ids.add(pokemon.getPokemonId());
+                }
+                Set<Integer> existing = pokemonBatchRepository.findExistingPokemonIds(ids);
+                List<Pokemon> newPokemons = new ArrayList<>(batch.size());
+                for (Pokemon pokemon : batch) {
+                    if (!existing.contains(pokemon.getPokemonId())) {
+                        newPokemons.add(pokemon);
+                    }
+                }
+                inserted += pokemonBatchRepository.insertIgnoringDuplicates(newPokemons);
+            }
+            report("batch", inserted, System.nanoTime() - start);
+
+            clear(jdbcTemplate);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void report(String path, int inserted, long elapsedNanos) {
+        double millis = elapsedNanos / 1_000_000.0;
+        System.out.printf("%-6s %10d %12.1f %12.0f%n", path, inserted, millis, inserted * 1000.0 / Math.max(millis, 0.001));
+    }
+
+    private static void clear(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("DELETE FROM pokemon WHERE pokemon_id >= ?", SYNTHETIC_ID_BASE);
+    }
+
+    private static List<Pokemon> samplePokemons(int count) {
+        List<Pokemon> pokemons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int id = SYNTHETIC_ID_BASE + i;
+            Pokemon pokemon = new Pokemon();
+            pokemon.setPokemonId(id);
+            pokemon.setName("benchmark-" + id);
+            pokemon.setKoreanName("벤치마크" + id);
+            pokemon.setBaseExperience(50 + i % 250);
+            pokemon.setHeight(i % 30 + 1);
+            pokemon.setWeight(i % 1000 + 10);
+            pokemon.setSpriteUrl("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/" + (i % 1025 + 1) + ".png");
+            pokemon.setTypes("[\"grass\",\"poison\"]");
+            pokemon.setKoreanTypes("[\"풀\",\"독\"]");
+            pokemon.setAbilities("[\"overgrow\",\"chlorophyll\"]");
+            pokemon.setHp((short) (40 + i % 100));
+            pokemon.setAttack((short) (40 + i * 7 % 100));
+            pokemon.setDefense((short) (40 + i * 11 % 100));
+            pokemon.setSpecialAttack((short) (40 + i * 13 % 100));
+            pokemon.setSpecialDefense((short) (40 + i * 17 % 100));
+            pokemon.setSpeed((short) (40 + i * 19 % 100));
+            pokemon.setBaseStatTotal((short) (pokemon.getHp() + pokemon.getAttack() + pokemon.getDefense()
+                    + pokemon.getSpecialAttack() + pokemon.getSpecialDefense() + pokemon.getSpeed()));
+            pokemon.setDescription("벤치마크용 합성 포켓몬");
+            pokemon.setGeneration(1 + i % 9);
+            pokemons.add(pokemon);
+        }
+        return pokemons;
+    }
+}
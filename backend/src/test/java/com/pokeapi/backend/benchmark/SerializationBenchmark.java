@@ -0,0 +1,150 @@
+package com.pokeapi.backend.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.pokeapi.backend.dto.PokemonDTO;
+import com.pokeapi.backend.dto.WorldCupResultDTO;
+
+/**
+ * 응답 직렬화 형식 비교 (JSON / CBOR / Smile 인코딩 시간과 크기)
+ *
+ * 포켓몬 목록(/all 규모)과 월드컵 결과(참가자/순위 맵 포함)를 같은 Jackson 설정으로 인코딩해 비교한다.
+ * 테스트 소스에 두어 운영 jar에는 포함되지 않는다.
+ * 실행: mvn -Pbenchmark process-test-classes
+ */
+public final class SerializationBenchmark {
+
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURE_ROUNDS = 500;
+
+    public static void main(String[] args) throws Exception {
+        int pokemonCount = args.length > 0 ? Integer.parseInt(args[0]) : 1025;
+
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("json", configure(JsonMapper.builder().findAndAddModules().build()));
+        mappers.put("cbor", configure(CBORMapper.builder().findAndAddModules().build()));
+        mappers.put("smile", configure(SmileMapper.builder().findAndAddModules().build()));
+
+        List<PokemonDTO> pokemons = samplePokemons(pokemonCount);
+        List<WorldCupResultDTO> results = sampleWorldCupResults(50, 32);
+
+        System.out.println("포켓몬 목록 " + pokemonCount + "마리");
+        run(mappers, pokemons);
+        System.out.println();
+        System.out.println("월드컵 결과 50건 (32강)");
+        run(mappers, results);
+    }
+
+    private static ObjectMapper configure(ObjectMapper mapper) {
+        // 스프링 부트 기본값과 같게 날짜는 ISO-8601 문자열로
+        return mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static void run(Map<String, ObjectMapper> mappers, Object payload) throws Exception {
+        Integer jsonSize = null;
+        System.out.printf("%-6s %12s %10s %14s%n", "format", "bytes", "vs json", "encode(us)");
+        for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+            ObjectMapper mapper = entry.getValue();
+            byte[] encoded = mapper.writeValueAsBytes(payload);
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                mapper.writeValueAsBytes(payload);
+            }
+            long[] samples = new long[MEASURE_ROUNDS];
+            for (int i = 0; i < MEASURE_ROUNDS; i++) {
+                long start = System.nanoTime();
+                mapper.writeValueAsBytes(payload);
+                samples[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(samples);
+            if (jsonSize == null) {
+                jsonSize = encoded.length;
+            }
+            System.out.printf("%-6s %12d %9.1f%% %14.1f%n", entry.getKey(), encoded.length,
+                    encoded.length * 100.0 / jsonSize, samples[MEASURE_ROUNDS / 2] / 1000.0);
+        }
+    }
+
+    private static List<PokemonDTO> samplePokemons(int count) {
+        List<PokemonDTO> pokemons = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            PokemonDTO dto = new PokemonDTO();
+            dto.setPokemonId(id);
+            dto.setName("pokemon-" + id);
+            dto.setKoreanName("포켓몬" + id);
+            dto.setBaseExperience(50 + id % 250);
+            dto.setHeight(id % 30 + 1);
+            dto.setWeight(id % 1000 + 10);
+            dto.setSpriteUrl("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/" + id + ".png");
+            dto.setShinySpriteUrl("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/shiny/" + id + ".png");
+            dto.setOfficialArtworkUrl("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/other/official-artwork/" + id + ".png");
+            dto.setTypes(Arrays.asList("grass", "poison"));
+            dto.setKoreanTypes(Arrays.asList("풀", "독"));
+            dto.setAbilities(Arrays.asList("overgrow", "chlorophyll"));
+            List<PokemonDTO.StatDTO> stats = new ArrayList<>();
+            for (String statName : new String[] {"hp", "attack", "defense", "special-attack", "special-defense", "speed"}) {
+                PokemonDTO.StatDTO stat = new PokemonDTO.StatDTO();
+                stat.setName(statName);
+                stat.setBaseStat(40 + (id * statName.length()) % 100);
+                stat.setEffort(id % 3);
+                stats.add(stat);
+            }
+            dto.setStats(stats);
+            dto.setDescription("태어났을 때부터 등에 이상한 씨앗이 심어져 있으며 몸과 함께 자란다고 한다.");
+            dto.setGeneration(1 + id / 152);
+            pokemons.add(dto);
+        }
+        return pokemons;
+    }
+
+    private static List<WorldCupResultDTO> sampleWorldCupResults(int count, int participantCount) {
+        List<WorldCupResultDTO> results = new ArrayList<>(count);
+        for (int r = 0; r < count; r++) {
+            List<Map<String, Object>> participants = new ArrayList<>();
+            List<Map<String, Object>> ranking = new ArrayList<>();
+            for (int p = 1; p <= participantCount; p++) {
+                Map<String, Object> participant = new LinkedHashMap<>();
+                participant.put("id", p);
+                participant.put("name", "pokemon-" + p);
+                participant.put("koreanName", "포켓몬" + p);
+                participant.put("imageUrl", "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/" + p + ".png");
+                participant.put("types", Arrays.asList("fire", "flying"));
+                participants.add(participant);
+
+                Map<String, Object> rank = new LinkedHashMap<>(participant);
+                rank.put("rank", p);
+                ranking.add(rank);
+            }
+            Map<String, Object> conditions = new LinkedHashMap<>();
+            conditions.put("generation", 1);
+            conditions.put("type", "fire");
+            conditions.put("participantCount", participantCount);
+
+            WorldCupResultDTO dto = new WorldCupResultDTO();
+            dto.setId((long) r);
+            dto.setTournamentId("tournament-" + r);
+            dto.setTitle("1세대 불꽃 월드컵");
+            dto.setTournamentType("auto");
+            dto.setConditions(conditions);
+            dto.setParticipants(participants);
+            dto.setFinalRanking(ranking);
+            dto.setWinnerId(6);
+            dto.setWinnerName("charizard");
+            dto.setWinnerKoreanName("리자몽");
+            dto.setWinnerSpriteUrl("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/6.png");
+            dto.setCreatedAt(LocalDateTime.now());
+            dto.setCompletedAt(LocalDateTime.now());
+            results.add(dto);
+        }
+        return results;
+    }
+}
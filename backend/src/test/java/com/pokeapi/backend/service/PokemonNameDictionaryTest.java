@@ -0,0 +1,70 @@
+package com.pokeapi.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class PokemonNameDictionaryTest {
+
+    @Test
+    void extendAddsOnlyNewSpeciesAndKeepsLookupsConsistent() {
+        int before = PokemonNameDictionary.size();
+        assertEquals("bulbasaur", PokemonNameDictionary.englishNameOf("이상해씨"));
+        assertEquals("이상해씨", PokemonNameDictionary.koreanNameOf("BULBASAUR"));
+
+        int added = PokemonNameDictionary.extend(List.of(
+                new PokemonNameSeed.Entry(90001, "test-treecko", "테스트나무지기", 3),
+                new PokemonNameSeed.Entry(1, "bulbasaur-dup", "중복이상해씨", 1),      // 이미 있는 ID
+                new PokemonNameSeed.Entry(90002, "test-other", "이상해씨", 3),          // 이미 있는 한글 이름
+                new PokemonNameSeed.Entry(90003, "TEST-TREECKO", "테스트나무지기2", 3))); // 같은 배치의 영문 이름
+
+        assertEquals(1, added);
+        assertEquals(before + 1, PokemonNameDictionary.size());
+        assertEquals("test-treecko", PokemonNameDictionary.englishNameOf("테스트나무지기"));
+        assertEquals("테스트나무지기", PokemonNameDictionary.koreanNameOf(90001));
+        assertEquals(3, PokemonNameDictionary.generationOf("test-treecko"));
+        assertEquals(1, PokemonNameDictionary.pokemonIdOf("이상해씨"));
+        assertNull(PokemonNameDictionary.englishNameOf(90002));
+        assertEquals(0, PokemonNameDictionary.extend(List.of(
+                new PokemonNameSeed.Entry(90001, "test-treecko", "테스트나무지기", 3))));
+    }
+
+    @Test
+    void completeOnlyWhenEverySpeciesIsPresent() {
+        int seedCount = PokemonNameSeed.speciesCount();
+        try {
+            PokemonNameDictionary.setSpeciesCount(0);
+            assertFalse(PokemonNameDictionary.isComplete());
+            PokemonNameDictionary.setSpeciesCount(PokemonNameDictionary.size() + 1);
+            assertFalse(PokemonNameDictionary.isComplete());
+            PokemonNameDictionary.setSpeciesCount(PokemonNameDictionary.size());
+            assertTrue(PokemonNameDictionary.isComplete());
+        } finally {
+            PokemonNameDictionary.setSpeciesCount(seedCount);
+        }
+    }
+
+    @Test
+    void fromSpeciesUsesDefaultVarietyKoreanNameAndGeneration() throws Exception {
+        String json = "{\"id\":386,\"name\":\"deoxys\","
+                + "\"generation\":{\"url\":\"https://pokeapi.co/api/v2/generation/3/\"},"
+                + "\"names\":[{\"name\":\"Deoxys\",\"language\":{\"name\":\"en\"}},"
+                + "{\"name\":\"테오키스\",\"language\":{\"name\":\"ko\"}}],"
+                + "\"varieties\":[{\"is_default\":false,\"pokemon\":{\"name\":\"deoxys-attack\"}},"
+                + "{\"is_default\":true,\"pokemon\":{\"name\":\"deoxys-normal\"}}]}";
+
+        PokemonNameSeed.Entry entry = PokemonNameSeed.fromSpecies(new ObjectMapper().readTree(json));
+
+        assertEquals(386, entry.getPokemonId());
+        assertEquals("deoxys-normal", entry.getEnglishName());
+        assertEquals("테오키스", entry.getKoreanName());
+        assertEquals(3, entry.getGeneration());
+    }
+}
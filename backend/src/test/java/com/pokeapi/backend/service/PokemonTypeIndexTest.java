@@ -0,0 +1,69 @@
+package com.pokeapi.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class PokemonTypeIndexTest {
+
+    @Test
+    void fromNameMatchesWholeNamesOnly() {
+        assertEquals(PokemonType.FIRE, PokemonType.fromName("fire"));
+        assertEquals(PokemonType.FIRE, PokemonType.fromName(" Fire "));
+        assertEquals(PokemonType.FIRE, PokemonType.fromName("불꽃"));
+        assertEquals(PokemonType.DARK, PokemonType.fromName("악"));
+
+        // 부분 문자열은 타입으로 보지 않음 ("물" ⊂ "괴물", "ice" ⊂ "ice-cream", "악" ⊂ "악몽")
+        assertNull(PokemonType.fromName("괴물"));
+        assertNull(PokemonType.fromName("ice-cream"));
+        assertNull(PokemonType.fromName("악몽"));
+        assertNull(PokemonType.fromName("fir"));
+        assertNull(PokemonType.fromName(""));
+        assertNull(PokemonType.fromName(null));
+    }
+
+    @Test
+    void matchingIntersectsTypeAndGeneration() {
+        List<CatalogPokemon> entries = new ArrayList<>();
+        entries.add(pokemon(4, List.of("fire"), List.of(), 1));            // 파이리
+        entries.add(pokemon(6, List.of("fire", "flying"), List.of(), 1));  // 리자몽
+        entries.add(pokemon(7, List.of(), List.of("물"), 1));              // 한글 타입만 저장된 행
+        entries.add(pokemon(155, List.of("fire"), List.of(), null));       // 세대 없음 → 번호로 2세대
+        entries.add(pokemon(255, List.of("fire"), List.of(), 3));
+        // 64개를 넘겨 두 번째 워드까지 확인
+        for (int i = 0; i < 70; i++) {
+            entries.add(pokemon(1000 + i, List.of("water"), List.of(), 9));
+        }
+        PokemonTypeIndex index = new PokemonTypeIndex(entries);
+
+        assertEquals(List.of(0, 1, 3, 4), ordinals(index.matching(PokemonType.FIRE, null)));
+        assertEquals(List.of(0, 1), ordinals(index.matching(PokemonType.FIRE, 1)));
+        assertEquals(List.of(3), ordinals(index.matching(PokemonType.FIRE, 2)));
+        assertEquals(List.of(1), ordinals(index.matching(PokemonType.FLYING, 1)));
+        assertEquals(List.of(2), ordinals(index.matching(PokemonType.WATER, 1)));
+        assertEquals(70, ordinals(index.matching(PokemonType.WATER, 9)).size());
+        assertEquals(75, ordinals(index.matching(null, null)).size());
+        assertEquals(Collections.emptyList(), ordinals(index.matching(PokemonType.GRASS, null)));
+        assertEquals(Collections.emptyList(), ordinals(index.matching(null, 10)));
+    }
+
+    private static List<Integer> ordinals(long[] bits) {
+        List<Integer> ordinals = new ArrayList<>();
+        for (int i = PokemonTypeIndex.nextSetBit(bits, 0); i >= 0; i = PokemonTypeIndex.nextSetBit(bits, i + 1)) {
+            ordinals.add(i);
+        }
+        return ordinals;
+    }
+
+    private static CatalogPokemon pokemon(int pokemonId, List<String> types, List<String> koreanTypes,
+            Integer generation) {
+        return new CatalogPokemon((long) pokemonId, pokemonId, "pokemon-" + pokemonId, null,
+                null, null, null, null, null, null,
+                types, koreanTypes, Collections.emptyList(), null, Collections.emptyList(), generation);
+    }
+}
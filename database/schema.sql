@@ -16,36 +16,81 @@ CREATE TABLE IF NOT EXISTS pokemon (
     sprite_url TEXT,
     shiny_sprite_url TEXT,
     official_artwork_url TEXT,
-    types TEXT, -- JSON 형태로 저장
-    korean_types TEXT, -- JSON 형태로 저장
-    stats TEXT, -- JSON 형태로 저장
+    types JSONB, -- 타입 배열 (@> 포함 검색)
+    korean_types JSONB, -- 한글 타입 배열
+    hp SMALLINT, -- 능력치 (종족값)
+    attack SMALLINT,
+    defense SMALLINT,
+    special_attack SMALLINT,
+    special_defense SMALLINT,
+    speed SMALLINT,
+    base_stat_total SMALLINT, -- 종족값 합계
+    hp_effort SMALLINT, -- 능력치별 노력치
+    attack_effort SMALLINT,
+    defense_effort SMALLINT,
+    special_attack_effort SMALLINT,
+    special_defense_effort SMALLINT,
+    speed_effort SMALLINT,
     description TEXT,
-    abilities TEXT, -- JSON 형태로 저장
+    abilities JSONB, -- 특성 배열
     generation INTEGER,
+    evolution_chain_id INTEGER, -- PokeAPI 진화 체인 ID (species 기준)
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- 진화 체인 (PokeAPI /evolution-chain/{id} 응답 원본, 백그라운드 사전 적재)
+CREATE TABLE IF NOT EXISTS evolution_chain (
+    id INTEGER PRIMARY KEY, -- PokeAPI 진화 체인 ID
+    chain_data TEXT NOT NULL, -- JSON 형태로 저장
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
 -- 포켓몬 이름 매핑 테이블 (한글-영문 변환 캐싱용)
 CREATE TABLE IF NOT EXISTS pokemon_name_mapping (
     id SERIAL PRIMARY KEY,
     korean_name VARCHAR(50) NOT NULL,
     english_name VARCHAR(50) NOT NULL,
     pokemon_id INTEGER NOT NULL,
+    generation INTEGER,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     UNIQUE(korean_name, english_name)
 );
 
--- 기존 정규화된 테이블들 (참고용으로 유지, 실제 사용하지 않음)
--- pokemon_type 테이블 생성
+-- 포켓몬 대량 적재 작업 (백그라운드 실행, 배치마다 진행 위치 체크포인트)
+CREATE TABLE IF NOT EXISTS import_job (
+    id BIGSERIAL PRIMARY KEY,
+    status VARCHAR(20) NOT NULL, -- PENDING, RUNNING, COMPLETED, FAILED, CANCELLED
+    request_limit INTEGER NOT NULL,
+    start_offset INTEGER NOT NULL,
+    current_offset INTEGER NOT NULL, -- 다음에 처리할 목록 위치
+    end_offset INTEGER,
+    last_pokemon_id INTEGER,
+    inserted_count INTEGER NOT NULL DEFAULT 0,
+    skipped_count INTEGER NOT NULL DEFAULT 0,
+    error_count INTEGER NOT NULL DEFAULT 0,
+    errors TEXT, -- JSON 형태로 저장 (최근 오류)
+    batch_stats TEXT, -- JSON 형태로 저장 (배치별 처리량)
+    cancel_requested BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP
+);
+
+-- 포켓몬별 타입 (적재 시 pokemon.types에서 채움, 타입 조회는 이 테이블과 동등 조인)
 CREATE TABLE IF NOT EXISTS pokemon_type (
     id BIGSERIAL PRIMARY KEY,
-    pokemon_id BIGINT REFERENCES pokemon(id) ON DELETE CASCADE,
-    type_name VARCHAR(20) NOT NULL,
-    slot INTEGER NOT NULL
+    pokemon_id BIGINT NOT NULL REFERENCES pokemon(id) ON DELETE CASCADE,
+    type_name VARCHAR(20) NOT NULL, -- 영문 타입 이름
+    korean_type_name VARCHAR(20), -- 한글 타입 이름
+    slot INTEGER NOT NULL,
+    CONSTRAINT uk_pokemon_type_slot UNIQUE (pokemon_id, slot)
 );
 
+-- 기존 정규화된 테이블들 (참고용으로 유지, 실제 사용하지 않음)
+
 -- pokemon_stat 테이블 생성
 CREATE TABLE IF NOT EXISTS pokemon_stat (
     id BIGSERIAL PRIMARY KEY,
@@ -68,12 +113,15 @@ CREATE TABLE IF NOT EXISTS pokemon_ability (
 CREATE INDEX IF NOT EXISTS idx_pokemon_name ON pokemon(name);
 CREATE INDEX IF NOT EXISTS idx_pokemon_korean_name ON pokemon(korean_name);
 CREATE INDEX IF NOT EXISTS idx_pokemon_generation ON pokemon(generation);
+CREATE INDEX IF NOT EXISTS idx_pokemon_evolution_chain_id ON pokemon(evolution_chain_id);
+-- 고급 검색 범위 조건 (PokemonSearchMapper)
+CREATE INDEX IF NOT EXISTS idx_pokemon_height ON pokemon(height);
+CREATE INDEX IF NOT EXISTS idx_pokemon_weight ON pokemon(weight);
 CREATE INDEX IF NOT EXISTS idx_pokemon_name_mapping_korean ON pokemon_name_mapping(korean_name);
 CREATE INDEX IF NOT EXISTS idx_pokemon_name_mapping_english ON pokemon_name_mapping(english_name);
 CREATE INDEX IF NOT EXISTS idx_pokemon_name_mapping_pokemon_id ON pokemon_name_mapping(pokemon_id);
 
 -- 기존 정규화된 테이블 인덱스 (참고용)
-CREATE INDEX IF NOT EXISTS idx_pokemon_type_name ON pokemon_type(type_name);
 CREATE INDEX IF NOT EXISTS idx_pokemon_stat_name ON pokemon_stat(stat_name);
 
 -- 테이블 생성 확인
@@ -126,4 +174,75 @@ SELECT column_name, is_nullable
 FROM information_schema.columns
 WHERE table_name = 'pokemon';
 
-SELECT * FROM pokemon WHERE name = 'pidgeot';
\ No newline at end of file
+SELECT * FROM pokemon WHERE name = 'pidgeot';
+-- 능력치 컬럼 추가 (stats JSON TEXT 대체)
+-- 기존 행은 애플리케이션 시작 시 PokemonStatMigration이 500건씩 나눠 채운다. 확인 후 stats 컬럼 삭제
+ALTER TABLE pokemon ADD COLUMN IF NOT EXISTS hp SMALLINT;
+ALTER TABLE pokemon ADD COLUMN IF NOT EXISTS attack SMALLINT;
+ALTER TABLE pokemon ADD COLUMN IF NOT EXISTS defense SMALLINT;
+ALTER TABLE pokemon ADD COLUMN IF NOT EXISTS special_attack SMALLINT;
+ALTER TABLE pokemon ADD COLUMN IF NOT EXISTS special_defense SMALLINT;
+ALTER TABLE pokemon ADD COLUMN IF NOT EXISTS speed SMALLINT;
+ALTER TABLE pokemon ADD COLUMN IF NOT EXISTS base_stat_total SMALLINT;
+ALTER TABLE pokemon ADD COLUMN IF NOT EXISTS hp_effort SMALLINT;
+ALTER TABLE pokemon ADD COLUMN IF NOT EXISTS attack_effort SMALLINT;
+ALTER TABLE pokemon ADD COLUMN IF NOT EXISTS defense_effort SMALLINT;
+ALTER TABLE pokemon ADD COLUMN IF NOT EXISTS special_attack_effort SMALLINT;
+ALTER TABLE pokemon ADD COLUMN IF NOT EXISTS special_defense_effort SMALLINT;
+ALTER TABLE pokemon ADD COLUMN IF NOT EXISTS speed_effort SMALLINT;
+-- 능력치 복합 인덱스 (attack/defense, special_attack/special_defense, hp/speed, base_stat_total)는
+-- 백필이 끝난 뒤 PokemonStatMigration이 CONCURRENTLY로 만든다.
+-- ALTER TABLE pokemon DROP COLUMN stats;
+
+-- pokemon_type 한글 타입 이름/슬롯 유니크 추가 (기존 행은 애플리케이션 시작 시 PokemonTypeMigration이 채움)
+ALTER TABLE pokemon_type ADD COLUMN IF NOT EXISTS korean_type_name VARCHAR(20);
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_pokemon_type_slot') THEN
+        ALTER TABLE pokemon_type ADD CONSTRAINT uk_pokemon_type_slot UNIQUE (pokemon_id, slot);
+    END IF;
+END $$;
+DROP INDEX IF EXISTS idx_pokemon_type_name;
+
+-- 타입 조회 (타입 이름 → 포켓몬)
+CREATE INDEX IF NOT EXISTS idx_pokemon_type_name_pokemon ON pokemon_type(type_name, pokemon_id);
+CREATE INDEX IF NOT EXISTS idx_pokemon_type_korean_name_pokemon ON pokemon_type(korean_type_name, pokemon_id);
+
+-- JSON TEXT 컬럼 → jsonb (애플리케이션 시작 시 JsonbColumnMigration이 같은 변환 실행)
+-- 아직 text인 컬럼만 변환 (새로 만든 테이블은 이미 jsonb라 건너뜀)
+-- world_cup_results는 JPA가 생성한 테이블
+DO $$
+DECLARE
+    col RECORD;
+BEGIN
+    FOR col IN
+        SELECT table_name, column_name FROM information_schema.columns
+        WHERE table_schema = current_schema() AND data_type = 'text'
+          AND ((table_name = 'pokemon' AND column_name IN ('types', 'korean_types', 'abilities'))
+            OR (table_name = 'world_cup_results' AND column_name = 'conditions'))
+    LOOP
+        IF col.table_name = 'world_cup_results' THEN
+            EXECUTE 'ALTER TABLE world_cup_results ALTER COLUMN conditions TYPE jsonb USING conditions::jsonb';
+        ELSE
+            EXECUTE format('ALTER TABLE pokemon ALTER COLUMN %1$I TYPE jsonb USING CASE WHEN %1$I ~ ''^\s*\['' THEN %1$I::jsonb END',
+                           col.column_name);
+        END IF;
+    END LOOP;
+END $$;
+
+-- jsonb 포함 검색 (types @> '["fire"]')
+CREATE INDEX IF NOT EXISTS idx_pokemon_types_gin ON pokemon USING GIN (types jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS idx_pokemon_korean_types_gin ON pokemon USING GIN (korean_types jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS idx_pokemon_abilities_gin ON pokemon USING GIN (abilities jsonb_path_ops);
+
+-- 세대 문자열("1") → 숫자 (조회는 conditions @> '{"generation": 1}')
+-- 스크립트가 한 트랜잭션으로 실행될 수 있어 CONCURRENTLY 없이 생성 (운영 중 생성은 JsonbColumnMigration이 CONCURRENTLY로 처리)
+DO $$
+BEGIN
+    IF to_regclass('world_cup_results') IS NOT NULL THEN
+        UPDATE world_cup_results
+        SET conditions = jsonb_set(conditions, '{generation}', to_jsonb((conditions ->> 'generation')::int))
+        WHERE jsonb_typeof(conditions -> 'generation') = 'string' AND conditions ->> 'generation' ~ '^[0-9]{1,9}$';
+        CREATE INDEX IF NOT EXISTS idx_world_cup_results_conditions_gin ON world_cup_results USING GIN (conditions jsonb_path_ops);
+    END IF;
+END $$;